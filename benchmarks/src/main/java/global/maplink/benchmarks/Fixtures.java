@@ -0,0 +1,53 @@
+package global.maplink.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import global.maplink.domain.MaplinkPoints;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+import java.io.InputStream;
+
+import static global.maplink.helpers.StreamHelper.readAllBytes;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+class Fixtures {
+
+    static final String TRIP_SOLUTION = "fixtures/tripSolution.json";
+
+    static final String TOLL_CALCULATION_RESULT = "fixtures/tollCalculationResult.json";
+
+    static final String PROBLEM = "fixtures/problem.json";
+
+    @SneakyThrows
+    static byte[] load(String name) {
+        try (InputStream input = Fixtures.class.getClassLoader().getResourceAsStream(name)) {
+            return readAllBytes(input);
+        }
+    }
+
+    // Replaces the few sample points of each leg by a route of the given size, like real trip solutions
+    @SneakyThrows
+    static byte[] tripSolutionWithRoute(int routeSize) {
+        val mapper = new ObjectMapper();
+        val solution = (ObjectNode) mapper.readTree(load(TRIP_SOLUTION));
+        val route = PolylineBenchmark.randomRoute(routeSize);
+        for (val leg : solution.withArray("legs")) {
+            ((ObjectNode) leg).set("points", pointsOf(mapper, route));
+        }
+        return mapper.writeValueAsBytes(solution);
+    }
+
+    private static ArrayNode pointsOf(ObjectMapper mapper, MaplinkPoints route) {
+        val points = mapper.createArrayNode();
+        for (int i = 0; i < route.size(); i++) {
+            points.addObject()
+                    .put("latitude", route.getLatitude(i))
+                    .put("longitude", route.getLongitude(i));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,65 @@
+package global.maplink.benchmarks;
+
+import ch.hsr.geohash.GeoHash;
+import ch.hsr.geohash.WGS84Point;
+import global.maplink.domain.GeohashCodec;
+import global.maplink.domain.MaplinkPoint;
+import global.maplink.domain.MaplinkPoints;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static global.maplink.benchmarks.PolylineBenchmark.randomRoute;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeohashBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private MaplinkPoints points;
+
+    private List<String> geohashes;
+
+    @Setup
+    public void setup() {
+        points = randomRoute(size);
+        geohashes = points.toGeohash();
+    }
+
+    @Benchmark
+    public void encodePerPointObjects(Blackhole bh) {
+        for (MaplinkPoint point : points) {
+            bh.consume(GeoHash.geoHashStringWithCharacterPrecision(
+                    point.getLatitude(),
+                    point.getLongitude(),
+                    MaplinkPoint.DEFAULT_GEOHASH_SIZE
+            ));
+        }
+    }
+
+    @Benchmark
+    public List<String> encodeBatch() {
+        return points.toGeohash();
+    }
+
+    @Benchmark
+    public void decodePerPointObjects(Blackhole bh) {
+        for (String geohash : geohashes) {
+            WGS84Point center = GeoHash.fromGeohashString(geohash).getBoundingBoxCenter();
+            bh.consume(new MaplinkPoint(center.getLatitude(), center.getLongitude()));
+        }
+    }
+
+    @Benchmark
+    public double[] decodeBatch() {
+        return GeohashCodec.decode(geohashes);
+    }
+}
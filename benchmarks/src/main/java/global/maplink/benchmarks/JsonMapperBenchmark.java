@@ -0,0 +1,52 @@
+package global.maplink.benchmarks;
+
+import global.maplink.json.JacksonJsonMapperImpl;
+import global.maplink.planning.schema.problem.Problem;
+import global.maplink.toll.schema.result.TollCalculationResult;
+import global.maplink.trip.schema.v2.solution.TripSolution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMapperBenchmark {
+
+    @Param({"10", "20000"})
+    public int routeSize;
+
+    private JacksonJsonMapperImpl mapper;
+
+    private byte[] tripSolution;
+
+    private byte[] tollCalculationResult;
+
+    private byte[] problem;
+
+    @Setup
+    public void setup() {
+        mapper = new JacksonJsonMapperImpl();
+        tripSolution = Fixtures.tripSolutionWithRoute(routeSize);
+        tollCalculationResult = Fixtures.load(Fixtures.TOLL_CALCULATION_RESULT);
+        problem = Fixtures.load(Fixtures.PROBLEM);
+    }
+
+    @Benchmark
+    public byte[] tripSolutionRoundTrip() {
+        return mapper.toJson(mapper.fromJson(tripSolution, TripSolution.class));
+    }
+
+    @Benchmark
+    public byte[] tollCalculationResultRoundTrip() {
+        return mapper.toJson(mapper.fromJson(tollCalculationResult, TollCalculationResult.class));
+    }
+
+    @Benchmark
+    public byte[] problemRoundTrip() {
+        return mapper.toJson(mapper.fromJson(problem, Problem.class));
+    }
+}
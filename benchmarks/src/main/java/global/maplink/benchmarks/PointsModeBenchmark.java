@@ -0,0 +1,48 @@
+package global.maplink.benchmarks;
+
+import global.maplink.domain.MaplinkPoints;
+import global.maplink.domain.PointsMode;
+import global.maplink.json.JacksonJsonMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static global.maplink.benchmarks.PolylineBenchmark.randomRoute;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointsModeBenchmark {
+
+    @Param({"OBJECT", "ARRAY", "GEOHASH", "POLYLINE", "SIMPLE"})
+    public PointsMode mode;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private JacksonJsonMapperImpl mapper;
+
+    private MaplinkPoints points;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        mapper = new JacksonJsonMapperImpl();
+        points = randomRoute(size);
+        json = PointsMode.runWith(mode, () -> mapper.toJson(points));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return PointsMode.runWith(mode, () -> mapper.toJson(points));
+    }
+
+    @Benchmark
+    public MaplinkPoints deserialize() {
+        return mapper.fromJson(json, MaplinkPoints.class);
+    }
+}
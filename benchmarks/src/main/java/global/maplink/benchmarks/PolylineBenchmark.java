@@ -0,0 +1,107 @@
+package global.maplink.benchmarks;
+
+import global.maplink.domain.MaplinkPoints;
+import global.maplink.domain.PointsMode;
+import global.maplink.domain.PolylinePrecision;
+import global.maplink.json.JacksonJsonMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolylineBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"E5", "E6", "E7"})
+    public PolylinePrecision precision;
+
+    private MaplinkPoints points;
+
+    private JacksonJsonMapperImpl mapper;
+
+    private String polyline;
+
+    private byte[] polylineJson;
+
+    private byte[] objectJson;
+
+    private byte[] arrayJson;
+
+    @Setup
+    public void setup() {
+        points = randomRoute(size);
+        mapper = new JacksonJsonMapperImpl(precision);
+        polyline = points.toPolyline(precision);
+        polylineJson = PointsMode.runWith(PointsMode.POLYLINE, () -> mapper.toJson(points));
+        objectJson = PointsMode.runWith(PointsMode.OBJECT, () -> mapper.toJson(points));
+        arrayJson = PointsMode.runWith(PointsMode.ARRAY, () -> mapper.toJson(points));
+        // JMH only reports time, payload sizes are printed once per trial for comparison
+        System.out.printf(
+                "%n[payload] size=%d precision=%s polyline=%d object=%d array=%d bytes%n",
+                size, precision, polylineJson.length, objectJson.length, arrayJson.length
+        );
+    }
+
+    @Benchmark
+    public String encodePolyline() {
+        return points.toPolyline(precision);
+    }
+
+    @Benchmark
+    public MaplinkPoints decodePolylineString() {
+        return MaplinkPoints.fromPolyline(polyline, precision);
+    }
+
+    @Benchmark
+    public MaplinkPoints decodePolyline() {
+        return mapper.fromJson(polylineJson, MaplinkPoints.class);
+    }
+
+    @Benchmark
+    public void serializePolyline(Blackhole bh) {
+        bh.consume(PointsMode.runWith(PointsMode.POLYLINE, () -> mapper.toJson(points)));
+    }
+
+    @Benchmark
+    public void serializeObject(Blackhole bh) {
+        bh.consume(PointsMode.runWith(PointsMode.OBJECT, () -> mapper.toJson(points)));
+    }
+
+    @Benchmark
+    public void serializeArray(Blackhole bh) {
+        bh.consume(PointsMode.runWith(PointsMode.ARRAY, () -> mapper.toJson(points)));
+    }
+
+    @Benchmark
+    public MaplinkPoints deserializeObject() {
+        return mapper.fromJson(objectJson, MaplinkPoints.class);
+    }
+
+    @Benchmark
+    public MaplinkPoints deserializeArray() {
+        return mapper.fromJson(arrayJson, MaplinkPoints.class);
+    }
+
+    static MaplinkPoints randomRoute(int size) {
+        Random random = new Random(42);
+        double[] coordinates = new double[size * 2];
+        double lat = -23.5505;
+        double lon = -46.6333;
+        for (int i = 0; i < size; i++) {
+            lat += (random.nextDouble() - 0.5) * 0.002;
+            lon += (random.nextDouble() - 0.5) * 0.002;
+            coordinates[i * 2] = Math.round(lat * 1e6) / 1e6;
+            coordinates[i * 2 + 1] = Math.round(lon * 1e6) / 1e6;
+        }
+        return MaplinkPoints.from(coordinates);
+    }
+}
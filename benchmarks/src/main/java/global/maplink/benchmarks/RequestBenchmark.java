@@ -0,0 +1,36 @@
+package global.maplink.benchmarks;
+
+import global.maplink.http.request.GetRequest;
+import global.maplink.http.request.Request;
+import lombok.SneakyThrows;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestBenchmark {
+
+    private GetRequest request;
+
+    @Setup
+    @SneakyThrows
+    public void setup() {
+        request = Request.get(new URL("https://api.maplink.global/geocode/v1/suggestions"))
+                .withQuery("q", "Avenida Paulista, 1000 - São Paulo")
+                .withQuery("type", "ROAD")
+                .withQuery("lastMile", "true")
+                .withAuthorizationHeader("Bearer token");
+    }
+
+    @Benchmark
+    public URI getFullURI() {
+        return request.getFullURI();
+    }
+}
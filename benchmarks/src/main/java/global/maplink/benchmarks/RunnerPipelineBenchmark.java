@@ -0,0 +1,56 @@
+package global.maplink.benchmarks;
+
+import global.maplink.MapLinkServiceRequestAsyncRunner;
+import global.maplink.MapLinkServiceRequestAsyncRunnerImpl;
+import global.maplink.credentials.MapLinkCredentials;
+import global.maplink.env.EnvironmentCatalog;
+import global.maplink.http.Response;
+import global.maplink.json.JacksonJsonMapperImpl;
+import global.maplink.token.OAuthMapLinkTokenImpl;
+import global.maplink.toll.schema.TollVehicleType;
+import global.maplink.toll.schema.request.LegRequest;
+import global.maplink.toll.schema.request.TollCalculationRequest;
+import global.maplink.toll.schema.result.TollCalculationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RunnerPipelineBenchmark {
+
+    private MapLinkServiceRequestAsyncRunner runner;
+
+    private TollCalculationRequest request;
+
+    @Setup
+    public void setup() {
+        byte[] result = Fixtures.load(Fixtures.TOLL_CALCULATION_RESULT);
+        OAuthMapLinkTokenImpl token = new OAuthMapLinkTokenImpl("token", Instant.MAX);
+        // In-memory engine, only the SDK side of the call (serialization, token, filters, parsing) is measured
+        runner = new MapLinkServiceRequestAsyncRunnerImpl(
+                EnvironmentCatalog.HOMOLOG,
+                httpRequest -> completedFuture(new Response(200, "application/json", result)),
+                new JacksonJsonMapperImpl(),
+                (clientId, secret) -> completedFuture(token),
+                MapLinkCredentials.ofKey("benchmark", "benchmark"),
+                emptyList()
+        );
+        request = TollCalculationRequest.builder()
+                .leg(LegRequest.of(TollVehicleType.CAR, -23.56649, -46.6538, -22.90278, -43.2075))
+                .build();
+    }
+
+    @Benchmark
+    public TollCalculationResult run() {
+        return runner.run(request).join();
+    }
+}
@@ -9,15 +9,18 @@ import global.maplink.http.HttpAsyncEngine;
 import global.maplink.http.UserAgent;
 import global.maplink.json.JsonMapper;
 import global.maplink.token.TokenProvider;
+import global.maplink.token.TokenRefreshScheduler;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static java.util.Collections.unmodifiableCollection;
 import static java.util.stream.Collectors.joining;
@@ -43,6 +46,12 @@ public class MapLinkSDK {
 
     private final PointsMode pointsMode;
 
+    private final Duration requestTimeout;
+
+    private final Executor responseParserExecutor;
+
+    private final boolean blockingCallsOnVirtualThreads;
+
     private final Collection<SdkExtension> extensions;
 
     private void postConstruct() {
@@ -91,6 +100,14 @@ public class MapLinkSDK {
 
         private Optional<PointsMode> pointsMode = Optional.empty();
 
+        private Optional<TokenRefreshScheduler> tokenRefreshScheduler = Optional.empty();
+
+        private Optional<Duration> requestTimeout = Optional.empty();
+
+        private Optional<Executor> responseParserExecutor = Optional.empty();
+
+        private boolean blockingCallsOnVirtualThreads = false;
+
         private final Collection<SdkExtension> extensions = new HashSet<>();
 
         public Configurator with(MapLinkCredentials credentials) {
@@ -134,6 +151,26 @@ public class MapLinkSDK {
             return this;
         }
 
+        public Configurator with(TokenRefreshScheduler tokenRefreshScheduler) {
+            this.tokenRefreshScheduler = Optional.of(tokenRefreshScheduler);
+            return this;
+        }
+
+        public Configurator withRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = Optional.of(requestTimeout);
+            return this;
+        }
+
+        public Configurator withResponseParserExecutor(Executor responseParserExecutor) {
+            this.responseParserExecutor = Optional.of(responseParserExecutor);
+            return this;
+        }
+
+        public Configurator withBlockingCallsOnVirtualThreads(boolean blockingCallsOnVirtualThreads) {
+            this.blockingCallsOnVirtualThreads = blockingCallsOnVirtualThreads;
+            return this;
+        }
+
         public void initialize() {
             if (INSTANCE != null)
                 throw new IllegalStateException("MapLinkSDK already has been configured");
@@ -146,8 +183,13 @@ public class MapLinkSDK {
                     http,
                     agent.orElseGet(UserAgent::loadDefault),
                     jsonMapper,
-                    TokenProvider.create(http, env, jsonMapper, true),
+                    tokenRefreshScheduler
+                            .map(s -> TokenProvider.create(http, env, jsonMapper, s))
+                            .orElseGet(() -> TokenProvider.create(http, env, jsonMapper, true)),
                     pointsMode.orElseGet(PointsMode::loadDefault),
+                    requestTimeout.orElse(null),
+                    responseParserExecutor.orElse(null),
+                    blockingCallsOnVirtualThreads,
                     unmodifiableCollection(extensions)
             );
             INSTANCE.postConstruct();
@@ -1,6 +1,7 @@
 package global.maplink;
 
 import global.maplink.credentials.MapLinkCredentials;
+import global.maplink.deadline.Deadline;
 import global.maplink.env.Environment;
 import global.maplink.extensions.SdkExtension;
 import global.maplink.http.HttpAsyncEngine;
@@ -11,17 +12,40 @@ import lombok.RequiredArgsConstructor;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static global.maplink.helpers.ProxyHelper.handleFor;
 import static java.lang.String.format;
 import static java.lang.System.identityHashCode;
+import static java.util.Objects.isNull;
 
 public interface MapLinkServiceRequestAsyncRunner {
 
     <T> CompletableFuture<T> run(MapLinkServiceRequest<T> request);
 
+    // Runs bound to the given deadline (none when null), whatever thread the call is made from
+    default <T> CompletableFuture<T> run(MapLinkServiceRequest<T> request, Deadline deadline) {
+        return isNull(deadline) ? run(request) : Deadline.runWith(deadline, () -> run(request));
+    }
+
+    // Deadline for a call starting now, resolved once by APIs issuing many calls for a single request
+    default Deadline resolveDeadline() {
+        return Deadline.current();
+    }
+
+    // Default timeout of a single call, none when null
+    default Duration getRequestTimeout() {
+        return null;
+    }
+
+    // Runner for sync APIs, calls made from virtual threads block on the http exchange instead of chaining on engine threads
+    default MapLinkServiceRequestAsyncRunner blocking() {
+        return this;
+    }
+
     Environment getEnvironment();
 
     static MapLinkServiceRequestAsyncRunner createRunner(
@@ -34,7 +58,9 @@ public interface MapLinkServiceRequestAsyncRunner {
                 sdk.getJsonMapper(),
                 sdk.getTokenProvider(),
                 sdk.getCredentials(),
-                sdk.getExtensions()
+                sdk.getExtensions(),
+                sdk.getRequestTimeout(),
+                sdk.getResponseParserExecutor()
         );
     }
 
@@ -45,6 +71,31 @@ public interface MapLinkServiceRequestAsyncRunner {
             TokenProvider tokenProvider,
             MapLinkCredentials credentials,
             Collection<SdkExtension> extensions
+    ) {
+        return createRunner(environment, http, mapper, tokenProvider, credentials, extensions, null, null);
+    }
+
+    static MapLinkServiceRequestAsyncRunner createRunner(
+            Environment environment,
+            HttpAsyncEngine http,
+            JsonMapper mapper,
+            TokenProvider tokenProvider,
+            MapLinkCredentials credentials,
+            Collection<SdkExtension> extensions,
+            Duration requestTimeout
+    ) {
+        return createRunner(environment, http, mapper, tokenProvider, credentials, extensions, requestTimeout, null);
+    }
+
+    static MapLinkServiceRequestAsyncRunner createRunner(
+            Environment environment,
+            HttpAsyncEngine http,
+            JsonMapper mapper,
+            TokenProvider tokenProvider,
+            MapLinkCredentials credentials,
+            Collection<SdkExtension> extensions,
+            Duration requestTimeout,
+            Executor responseParserExecutor
     ) {
         return new MapLinkServiceRequestAsyncRunnerImpl(
                 environment,
@@ -52,7 +103,9 @@ public interface MapLinkServiceRequestAsyncRunner {
                 mapper,
                 tokenProvider,
                 credentials,
-                extensions
+                extensions,
+                requestTimeout,
+                responseParserExecutor
         );
     }
 
@@ -64,6 +117,15 @@ public interface MapLinkServiceRequestAsyncRunner {
         return proxyFor(apiClass, createRunner(environment, sdk));
     }
 
+    static <T> T blockingProxyFor(
+            Class<T> apiClass,
+            Environment environment,
+            MapLinkSDK sdk
+    ) {
+        MapLinkServiceRequestAsyncRunner runner = createRunner(environment, sdk);
+        return proxyFor(apiClass, sdk.isBlockingCallsOnVirtualThreads() ? runner.blocking() : runner);
+    }
+
     static <T> T proxyFor(
             Class<T> apiClass,
             Environment environment,
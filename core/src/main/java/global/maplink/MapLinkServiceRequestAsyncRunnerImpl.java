@@ -1,20 +1,46 @@
 package global.maplink;
 
 import global.maplink.credentials.MapLinkCredentials;
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
 import global.maplink.env.Environment;
 import global.maplink.extensions.SdkExtension;
+import global.maplink.extensions.SdkHttpInterceptorExtension;
+import global.maplink.extensions.SdkMetricsExtension;
 import global.maplink.extensions.SdkRequestFilterExtension;
+import global.maplink.extensions.SdkTracingExtension;
+import global.maplink.helpers.StreamHelper;
+import global.maplink.helpers.VirtualThreadHelper;
 import global.maplink.http.HttpAsyncEngine;
+import global.maplink.http.Response;
 import global.maplink.http.request.Request;
 import global.maplink.json.JsonMapper;
 import global.maplink.token.TokenProvider;
 import lombok.Getter;
 import lombok.val;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Function;
 
+import static global.maplink.helpers.SchedulerHelper.sharedScheduler;
+import static global.maplink.helpers.ServiceNameHelper.serviceOf;
+import static global.maplink.helpers.StreamHelper.closeQuietly;
+import static global.maplink.metrics.RequestPhase.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 
 public class MapLinkServiceRequestAsyncRunnerImpl implements MapLinkServiceRequestAsyncRunner {
@@ -32,6 +58,19 @@ public class MapLinkServiceRequestAsyncRunnerImpl implements MapLinkServiceReque
 
     private final Collection<SdkRequestFilterExtension> requestFilters;
 
+    private final List<SdkHttpInterceptorExtension> httpInterceptors;
+
+    private final List<SdkMetricsExtension> metrics;
+
+    private final SdkTracingExtension tracing;
+
+    @Getter
+    private final Duration requestTimeout;
+
+    private final Executor responseParserExecutor;
+
+    private final boolean blocking;
+
     public MapLinkServiceRequestAsyncRunnerImpl(
             Environment environment,
             HttpAsyncEngine http,
@@ -40,6 +79,21 @@ public class MapLinkServiceRequestAsyncRunnerImpl implements MapLinkServiceReque
             MapLinkCredentials credentials,
             Collection<SdkExtension> extensions
     ) {
+        this(environment, http, mapper, tokenProvider, credentials, extensions, null, null);
+    }
+
+    public MapLinkServiceRequestAsyncRunnerImpl(
+            Environment environment,
+            HttpAsyncEngine http,
+            JsonMapper mapper,
+            TokenProvider tokenProvider,
+            MapLinkCredentials credentials,
+            Collection<SdkExtension> extensions,
+            Duration requestTimeout,
+            Executor responseParserExecutor
+    ) {
+        this.requestTimeout = requestTimeout;
+        this.responseParserExecutor = responseParserExecutor;
         this.environment = environment;
         this.http = http;
         this.mapper = mapper;
@@ -50,18 +104,241 @@ public class MapLinkServiceRequestAsyncRunnerImpl implements MapLinkServiceReque
                 .map(it -> (SdkRequestFilterExtension) it)
                 .sorted()
                 .collect(toList());
+        this.httpInterceptors = extensions.stream()
+                .filter(it -> it instanceof SdkHttpInterceptorExtension)
+                .map(it -> (SdkHttpInterceptorExtension) it)
+                .sorted()
+                .collect(toList());
+        this.metrics = extensions.stream()
+                .filter(it -> it instanceof SdkMetricsExtension)
+                .map(it -> (SdkMetricsExtension) it)
+                .sorted()
+                .collect(toList());
+        this.tracing = extensions.stream()
+                .filter(it -> it instanceof SdkTracingExtension)
+                .map(it -> (SdkTracingExtension) it)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+        this.blocking = false;
     }
 
+    private MapLinkServiceRequestAsyncRunnerImpl(MapLinkServiceRequestAsyncRunnerImpl runner, boolean blocking) {
+        this.environment = runner.environment;
+        this.http = runner.http;
+        this.mapper = runner.mapper;
+        this.tokenProvider = runner.tokenProvider;
+        this.credentials = runner.credentials;
+        this.requestFilters = runner.requestFilters;
+        this.httpInterceptors = runner.httpInterceptors;
+        this.metrics = runner.metrics;
+        this.tracing = runner.tracing;
+        this.requestTimeout = runner.requestTimeout;
+        this.responseParserExecutor = runner.responseParserExecutor;
+        this.blocking = blocking;
+    }
+
+    @Override
+    public MapLinkServiceRequestAsyncRunner blocking() {
+        return blocking ? this : new MapLinkServiceRequestAsyncRunnerImpl(this, true);
+    }
 
     @Override
     public <T> CompletableFuture<T> run(MapLinkServiceRequest<T> request) {
-        request.throwIfInvalid();
-        val httpRequest = request.asHttpRequest(environment, mapper);
-        return credentials.fetchToken(tokenProvider)
+        return run(request, resolveDeadline());
+    }
+
+    @Override
+    public Deadline resolveDeadline() {
+        return Deadline.resolve(requestTimeout);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> run(MapLinkServiceRequest<T> request, Deadline deadline) {
+        val observation = RequestObservation.start(metrics, tracing, request);
+        final Request httpRequest;
+        try {
+            observation.measure(VALIDATION, () -> validated(request));
+            httpRequest = observation.measure(SERIALIZATION, () -> request.asHttpRequest(environment, mapper));
+        } catch (RuntimeException e) {
+            observation.finish(e);
+            throw e;
+        }
+        val call = new CompletableFuture<T>();
+        val exchanges = ConcurrentHashMap.<Future<?>>newKeySet();
+        // Armed before any exchange starts, a blocking exchange could run right here on the caller thread
+        call.whenComplete((r, e) -> {
+            if (nonNull(e)) {
+                exchanges.forEach(exchange -> exchange.cancel(true));
+            }
+        });
+        if (nonNull(deadline)) {
+            expireAt(deadline, call, request);
+        }
+        if (observation.isEnabled()) {
+            call.whenComplete((r, e) -> observation.finish(e));
+        }
+        val engine = blocking && VirtualThreadHelper.isVirtual(Thread.currentThread())
+                ? blocking(call, exchanges, deadline, Thread.currentThread())
+                : cancellable(call, exchanges, deadline);
+        val response = observation.async(TOKEN, () -> credentials.fetchToken(tokenProvider))
                 .thenApply(token -> token.applyOn(httpRequest))
-                .thenApply(this.applyFilters(request))
-                .thenCompose(http::run)
-                .thenApply(request.getResponseParser(mapper));
+                .thenApply(observation.timed(FILTERS, this.applyFilters(request)))
+                .thenCompose(filtered -> observation.http(() -> intercepted(request, engine).run(filtered)));
+        parse(call, response, observation.timed(PARSING, closingAfter(request.getResponseParser(mapper))))
+                .whenComplete((r, e) -> {
+                    if (nonNull(e)) {
+                        call.completeExceptionally(e);
+                    } else {
+                        call.complete(r);
+                    }
+                });
+        return call;
+    }
+
+    private static void expireAt(Deadline deadline, CompletableFuture<?> call, MapLinkServiceRequest<?> request) {
+        if (deadline.isExpired()) {
+            call.completeExceptionally(new DeadlineExceededException(serviceOf(request.getClass()), deadline.getTimeout()));
+            return;
+        }
+        ScheduledFuture<?> expiration = sharedScheduler().schedule(
+                () -> call.completeExceptionally(new DeadlineExceededException(serviceOf(request.getClass()), deadline.getTimeout())),
+                deadline.remainingNanos(),
+                NANOSECONDS
+        );
+        call.whenComplete((r, e) -> expiration.cancel(false));
+    }
+
+    private <T> CompletableFuture<T> parse(
+            CompletableFuture<?> call,
+            CompletableFuture<Response> response,
+            Function<Response, T> parser
+    ) {
+        Function<Response, T> unlessDone = skippedWhenDone(call, parser);
+        if (isNull(responseParserExecutor)) {
+            return response.thenApply(unlessDone);
+        }
+        // Decoding large payloads is kept away from the threads completing http exchanges
+        return response.thenApplyAsync(unlessDone, command -> {
+            try {
+                responseParserExecutor.execute(command);
+            } catch (RejectedExecutionException e) {
+                // The parser will never run to close the response, it's already available at this point
+                response.thenAccept(StreamHelper::closeQuietly);
+                throw e;
+            }
+        });
+    }
+
+    // A call already expired or cancelled has no use for the parsed body
+    private static <T> Function<Response, T> skippedWhenDone(CompletableFuture<?> call, Function<Response, T> parser) {
+        return response -> {
+            if (call.isDone()) {
+                closeQuietly(response);
+                return null;
+            }
+            return parser.apply(response);
+        };
+    }
+
+    private static <T> MapLinkServiceRequest<T> validated(MapLinkServiceRequest<T> request) {
+        request.throwIfInvalid();
+        return request;
+    }
+
+    private static <T> Function<Response, T> closingAfter(Function<Response, T> parser) {
+        return response -> {
+            try {
+                return parser.apply(response);
+            } finally {
+                closeQuietly(response);
+            }
+        };
+    }
+
+    private <T> HttpAsyncEngine intercepted(MapLinkServiceRequest<T> serviceRequest, HttpAsyncEngine engine) {
+        HttpAsyncEngine chain = engine;
+        for (int i = httpInterceptors.size() - 1; i >= 0; i--) {
+            val interceptor = httpInterceptors.get(i);
+            val next = chain;
+            chain = request -> interceptor.intercept(serviceRequest, request, next);
+        }
+        return chain;
+    }
+
+    private HttpAsyncEngine cancellable(CompletableFuture<?> call, Collection<Future<?>> exchanges, Deadline deadline) {
+        return request -> {
+            if (call.isDone()) {
+                val cancelled = new CompletableFuture<Response>();
+                cancelled.cancel(false);
+                return cancelled;
+            }
+            // Exchanges start on token and retry threads, the deadline is bound again for the engine
+            val exchange = isNull(deadline) ? http.run(request) : Deadline.runWith(deadline, () -> http.run(request));
+            exchanges.add(exchange);
+            exchange.whenComplete((r, e) -> exchanges.remove(exchange));
+            // The call could have finished while the exchange was being started
+            if (call.isDone()) {
+                exchange.cancel(true);
+            }
+            return exchange;
+        };
+    }
+
+    // Exchanges block a virtual thread, the caller itself while it's starting the call, retries and exchanges
+    // started from other threads run on a fresh one. Cancelling the call interrupts the blocked thread.
+    private HttpAsyncEngine blocking(
+            CompletableFuture<?> call,
+            Collection<Future<?>> exchanges,
+            Deadline deadline,
+            Thread caller
+    ) {
+        return request -> {
+            val exchange = new CompletableFuture<Response>();
+            if (call.isDone()) {
+                exchange.cancel(false);
+                return exchange;
+            }
+            val task = new FutureTask<Response>(() -> isNull(deadline)
+                    ? http.runBlocking(request)
+                    : Deadline.runWith(deadline, () -> http.runBlocking(request))
+            );
+            exchanges.add(task);
+            // The call could have finished while the exchange was being registered
+            if (call.isDone()) {
+                task.cancel(false);
+            }
+            Runnable blockingExchange = () -> {
+                boolean interrupted = Thread.currentThread().isInterrupted();
+                task.run();
+                exchanges.remove(task);
+                if (task.isCancelled() && !interrupted) {
+                    // The interrupt was meant for the exchange, not for the thread running it
+                    Thread.interrupted();
+                }
+                completeWith(exchange, task);
+            };
+            if (Thread.currentThread() == caller) {
+                blockingExchange.run();
+            } else {
+                VirtualExchangesHolder.INSTANCE.execute(blockingExchange);
+            }
+            return exchange;
+        };
+    }
+
+    private static void completeWith(CompletableFuture<Response> exchange, FutureTask<Response> task) {
+        try {
+            exchange.complete(task.get());
+        } catch (CancellationException e) {
+            exchange.cancel(false);
+        } catch (ExecutionException e) {
+            exchange.completeExceptionally(e.getCause());
+        } catch (InterruptedException e) {
+            // Never happens, the task has already run
+            Thread.currentThread().interrupt();
+            exchange.completeExceptionally(e);
+        }
     }
 
     private <T> Function<Request, Request> applyFilters(MapLinkServiceRequest<T> serviceRequest) {
@@ -74,4 +351,8 @@ public class MapLinkServiceRequestAsyncRunnerImpl implements MapLinkServiceReque
         };
     }
 
+    private static class VirtualExchangesHolder {
+        private static final ExecutorService INSTANCE = VirtualThreadHelper.newVirtualThreadPerTaskExecutor();
+    }
+
 }
@@ -0,0 +1,172 @@
+package global.maplink;
+
+import global.maplink.extensions.SdkMetricsExtension;
+import global.maplink.extensions.SdkTracingExtension;
+import global.maplink.http.Response;
+import global.maplink.metrics.RequestPhase;
+import global.maplink.tracing.RequestTrace;
+import global.maplink.tracing.TraceScope;
+import global.maplink.tracing.TraceSpan;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static global.maplink.helpers.ServiceNameHelper.serviceOf;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class RequestObservation {
+
+    private static final RequestObservation DISABLED = new RequestObservation(emptyList(), null, null, 0);
+
+    private final List<SdkMetricsExtension> metrics;
+
+    private final RequestTrace trace;
+
+    private final String service;
+
+    private final long startedAt;
+
+    private RequestObservation(List<SdkMetricsExtension> metrics, RequestTrace trace, String service, long startedAt) {
+        this.metrics = metrics;
+        this.trace = trace;
+        this.service = service;
+        this.startedAt = startedAt;
+    }
+
+    static RequestObservation start(
+            List<SdkMetricsExtension> metrics,
+            SdkTracingExtension tracing,
+            MapLinkServiceRequest<?> request
+    ) {
+        if (metrics.isEmpty() && isNull(tracing)) {
+            return DISABLED;
+        }
+        String service = serviceOf(request.getClass());
+        for (SdkMetricsExtension metric : metrics) {
+            metric.onRequestStarted(service);
+        }
+        RequestTrace trace = isNull(tracing) ? null : tracing.startTrace(service, request);
+        return new RequestObservation(metrics, trace, service, nanoTime());
+    }
+
+    boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    TraceScope makeCurrent() {
+        return isNull(trace) ? TraceScope.NOOP : trace.makeCurrent();
+    }
+
+    <R> R measure(RequestPhase phase, Supplier<R> step) {
+        if (!isEnabled()) {
+            return step.get();
+        }
+        Step current = begin(phase);
+        try (TraceScope ignored = makeCurrent()) {
+            R result = step.get();
+            current.end(null);
+            return result;
+        } catch (RuntimeException e) {
+            current.end(e);
+            throw e;
+        }
+    }
+
+    <T, R> Function<T, R> timed(RequestPhase phase, Function<T, R> step) {
+        if (!isEnabled()) {
+            return step;
+        }
+        return value -> measure(phase, () -> step.apply(value));
+    }
+
+    <R> CompletableFuture<R> async(RequestPhase phase, Supplier<CompletableFuture<R>> call) {
+        if (!isEnabled()) {
+            return call.get();
+        }
+        Step current = begin(phase);
+        try (TraceScope ignored = makeCurrent()) {
+            return call.get().whenComplete((value, error) -> current.end(error));
+        } catch (RuntimeException e) {
+            current.end(e);
+            throw e;
+        }
+    }
+
+    CompletableFuture<Response> http(Supplier<CompletableFuture<Response>> call) {
+        if (!isEnabled()) {
+            return call.get();
+        }
+        Step current = begin(RequestPhase.HTTP);
+        try (TraceScope ignored = makeCurrent()) {
+            return call.get().whenComplete((response, error) -> {
+                if (nonNull(response)) {
+                    current.span.onResponse(response.getStatusCode());
+                    if (nonNull(trace)) {
+                        trace.onResponse(response.getStatusCode());
+                    }
+                }
+                current.end(error);
+                if (nonNull(response)) {
+                    for (SdkMetricsExtension metric : metrics) {
+                        metric.onResponse(service, response.getStatusCode());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            current.end(e);
+            throw e;
+        }
+    }
+
+    void finish(Throwable error) {
+        if (!isEnabled()) {
+            return;
+        }
+        long duration = nanoTime() - startedAt;
+        Throwable cause = unwrap(error);
+        for (SdkMetricsExtension metric : metrics) {
+            metric.onRequestFinished(service, duration, cause);
+        }
+        if (nonNull(trace)) {
+            trace.end(cause);
+        }
+    }
+
+    private Step begin(RequestPhase phase) {
+        TraceSpan span = isNull(trace) ? TraceSpan.NOOP : trace.startPhase(phase);
+        return new Step(phase, nanoTime(), span);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error;
+    }
+
+    private class Step {
+
+        private final RequestPhase phase;
+
+        private final long startedAt;
+
+        private final TraceSpan span;
+
+        private Step(RequestPhase phase, long startedAt, TraceSpan span) {
+            this.phase = phase;
+            this.startedAt = startedAt;
+            this.span = span;
+        }
+
+        private void end(Throwable error) {
+            long duration = nanoTime() - startedAt;
+            for (SdkMetricsExtension metric : metrics) {
+                metric.onPhase(service, phase, duration, isNull(error));
+            }
+            span.end(unwrap(error));
+        }
+    }
+}
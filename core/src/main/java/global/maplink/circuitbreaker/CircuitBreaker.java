@@ -0,0 +1,155 @@
+package global.maplink.circuitbreaker;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static global.maplink.circuitbreaker.CircuitBreaker.State.CLOSED;
+import static global.maplink.circuitbreaker.CircuitBreaker.State.HALF_OPEN;
+import static global.maplink.circuitbreaker.CircuitBreaker.State.OPEN;
+import static lombok.AccessLevel.PRIVATE;
+
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    @Getter
+    private final String service;
+
+    private final CircuitBreakerConfig config;
+
+    private final Clock clock;
+
+    private final boolean[] outcomes;
+
+    private int recorded;
+
+    private int nextOutcome;
+
+    private int failures;
+
+    private State state = CLOSED;
+
+    private Instant openUntil;
+
+    private int probesInFlight;
+
+    private int probesSucceeded;
+
+    // Changes on every state transition, outcomes of calls admitted in a previous state are discarded
+    private long generation;
+
+    public CircuitBreaker(String service, CircuitBreakerConfig config) {
+        this(service, config, Clock.systemUTC());
+    }
+
+    CircuitBreaker(String service, CircuitBreakerConfig config, Clock clock) {
+        if (config.getSlidingWindowSize() < 1 || config.getHalfOpenProbes() < 1) {
+            throw new IllegalArgumentException("Sliding window and half open probes must be positive");
+        }
+        this.service = service;
+        this.config = config;
+        this.clock = clock;
+        this.outcomes = new boolean[config.getSlidingWindowSize()];
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Permit tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return new Permit(generation);
+            case OPEN:
+                if (clock.instant().isBefore(openUntil)) {
+                    return null;
+                }
+                transitionTo(HALF_OPEN);
+                probesInFlight = 0;
+                probesSucceeded = 0;
+                return tryAcquire();
+            default:
+                if (probesInFlight >= config.getHalfOpenProbes()) {
+                    return null;
+                }
+                probesInFlight++;
+                return new Permit(generation);
+        }
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.generation != generation) {
+            return;
+        }
+        if (state == HALF_OPEN) {
+            if (++probesSucceeded >= config.getHalfOpenProbes()) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.generation != generation) {
+            return;
+        }
+        if (state == HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == CLOSED && recorded >= config.getMinimumCalls()
+                && failures >= recorded * config.getFailureRateThreshold()) {
+            open();
+        }
+    }
+
+    // Calls that tell nothing about the service health only give back their probe slot
+    public synchronized void onIgnored(Permit permit) {
+        if (permit.generation != generation) {
+            return;
+        }
+        if (state == HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[nextOutcome]) failures--;
+        } else {
+            recorded++;
+        }
+        outcomes[nextOutcome] = failure;
+        if (failure) failures++;
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+    }
+
+    private void open() {
+        transitionTo(OPEN);
+        openUntil = clock.instant().plus(config.getOpenDuration());
+    }
+
+    private void close() {
+        transitionTo(CLOSED);
+        recorded = 0;
+        nextOutcome = 0;
+        failures = 0;
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static final class Permit {
+        private final long generation;
+    }
+}
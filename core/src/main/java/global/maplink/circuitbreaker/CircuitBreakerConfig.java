@@ -0,0 +1,37 @@
+package global.maplink.circuitbreaker;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class CircuitBreakerConfig {
+
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 50;
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+    @Builder.Default
+    double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+    // Failure rate is computed over the outcomes of the last calls, only after a minimum of calls is observed
+    @Builder.Default
+    int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+
+    @Builder.Default
+    int minimumCalls = DEFAULT_MINIMUM_CALLS;
+
+    @Builder.Default
+    Duration openDuration = DEFAULT_OPEN_DURATION;
+
+    @Builder.Default
+    int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+
+    public static CircuitBreakerConfig defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,98 @@
+package global.maplink.circuitbreaker;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.extensions.SdkHttpInterceptorExtension;
+import global.maplink.helpers.ServiceNameHelper;
+import global.maplink.http.HttpAsyncEngine;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import lombok.val;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public class CircuitBreakerExtension implements SdkHttpInterceptorExtension {
+
+    public static final int PRIORITY = 200;
+
+    private static final String EXTENSION_NAME = "Circuit Breaker Extension";
+
+    private final CircuitBreakerConfig config;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerExtension() {
+        this(CircuitBreakerConfig.defaults());
+    }
+
+    public CircuitBreakerExtension(CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    public static String serviceOf(Class<?> requestType) {
+        return ServiceNameHelper.serviceOf(requestType);
+    }
+
+    public CircuitBreaker breakerFor(String service) {
+        return breakers.computeIfAbsent(service, s -> new CircuitBreaker(s, config));
+    }
+
+    @Override
+    public <T> CompletableFuture<Response> intercept(
+            MapLinkServiceRequest<T> serviceRequest,
+            Request request,
+            HttpAsyncEngine next
+    ) {
+        val breaker = breakerFor(serviceOf(serviceRequest.getClass()));
+        val permit = breaker.tryAcquire();
+        if (isNull(permit)) {
+            val rejected = new CompletableFuture<Response>();
+            rejected.completeExceptionally(new CircuitBreakerOpenException(breaker.getService()));
+            return rejected;
+        }
+        CompletableFuture<Response> response;
+        try {
+            response = next.run(request);
+        } catch (RuntimeException e) {
+            if (isServiceFailure(e)) {
+                breaker.onFailure(permit);
+            } else {
+                breaker.onIgnored(permit);
+            }
+            throw e;
+        }
+        return response.whenComplete((r, e) -> {
+            if (isNull(e) && !r.isServerError()) {
+                breaker.onSuccess(permit);
+            } else if (isNull(e) || isServiceFailure(e)) {
+                breaker.onFailure(permit);
+            } else {
+                // Cancelled calls (hedge losers, expired deadlines, callers giving up) and local errors
+                breaker.onIgnored(permit);
+            }
+        });
+    }
+
+    // Timeouts and connection errors, 5xx responses are checked on the response itself
+    private static boolean isServiceFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error;
+        return cause instanceof IOException || cause instanceof TimeoutException;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+}
@@ -0,0 +1,15 @@
+package global.maplink.circuitbreaker;
+
+import lombok.Getter;
+
+import static java.lang.String.format;
+
+@Getter
+public class CircuitBreakerOpenException extends RuntimeException {
+    private final String service;
+
+    public CircuitBreakerOpenException(String service) {
+        super(format("Circuit breaker for %s is open", service));
+        this.service = service;
+    }
+}
@@ -0,0 +1,123 @@
+package global.maplink.concurrency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.Math.max;
+import static java.util.Collections.emptyList;
+
+public abstract class AbstractConcurrencyLimiter implements ConcurrencyLimiter {
+
+    public static final int UNBOUNDED_QUEUE = Integer.MAX_VALUE;
+
+    private final int maxQueueSize;
+
+    private final Deque<CompletableFuture<Permit>> waiting = new ArrayDeque<>();
+
+    private int limit;
+
+    private int inFlight;
+
+    protected AbstractConcurrencyLimiter(int initialLimit, int maxQueueSize) {
+        if (initialLimit < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be at least 1");
+        }
+        this.limit = initialLimit;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    protected abstract int nextLimit(int currentLimit, long rttNanos, int inFlight, boolean dropped);
+
+    @Override
+    public CompletableFuture<Permit> acquire() {
+        synchronized (this) {
+            if (inFlight < limit) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new LimiterPermit());
+            }
+            CompletableFuture<Permit> queued = new CompletableFuture<>();
+            if (waiting.size() >= maxQueueSize) {
+                queued.completeExceptionally(new ConcurrencyLimitExceededException(limit, waiting.size()));
+            } else {
+                waiting.add(queued);
+            }
+            return queued;
+        }
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public synchronized int getQueued() {
+        return waiting.size();
+    }
+
+    private void release(long rttNanos, Boolean dropped) {
+        List<CompletableFuture<Permit>> granted;
+        synchronized (this) {
+            if (dropped != null) {
+                limit = max(1, nextLimit(limit, rttNanos, inFlight, dropped));
+            }
+            inFlight--;
+            granted = drain();
+        }
+        for (CompletableFuture<Permit> next : granted) {
+            LimiterPermit permit = new LimiterPermit();
+            if (!next.complete(permit)) {
+                permit.ignore();
+            }
+        }
+    }
+
+    private List<CompletableFuture<Permit>> drain() {
+        if (waiting.isEmpty() || inFlight >= limit) {
+            return emptyList();
+        }
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        while (inFlight < limit && !waiting.isEmpty()) {
+            granted.add(waiting.poll());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    private class LimiterPermit implements Permit {
+
+        private final long start = System.nanoTime();
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void success() {
+            releaseWith(false);
+        }
+
+        @Override
+        public void dropped() {
+            releaseWith(true);
+        }
+
+        @Override
+        public void ignore() {
+            releaseWith(null);
+        }
+
+        private void releaseWith(Boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package global.maplink.concurrency;
+
+import lombok.Getter;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+@Getter
+public class AimdConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    public AimdConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_BACKOFF_RATIO);
+    }
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, backoffRatio, UNBOUNDED_QUEUE);
+    }
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, int maxQueueSize) {
+        super(initialLimit, maxQueueSize);
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    protected int nextLimit(int currentLimit, long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            return max(minLimit, (int) (currentLimit * backoffRatio));
+        }
+        // Only grow while the limit is actually being used, otherwise an idle client would inflate it forever
+        if (inFlight * 2 >= currentLimit) {
+            return min(maxLimit, currentLimit + 1);
+        }
+        return currentLimit;
+    }
+}
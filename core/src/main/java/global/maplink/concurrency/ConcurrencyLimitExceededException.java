@@ -0,0 +1,17 @@
+package global.maplink.concurrency;
+
+import lombok.Getter;
+
+import static java.lang.String.format;
+
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    private final int limit;
+    private final int queued;
+
+    public ConcurrencyLimitExceededException(int limit, int queued) {
+        super(format("Concurrency limit of %d reached with %d requests already queued", limit, queued));
+        this.limit = limit;
+        this.queued = queued;
+    }
+}
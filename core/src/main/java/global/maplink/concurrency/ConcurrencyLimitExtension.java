@@ -0,0 +1,88 @@
+package global.maplink.concurrency;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.extensions.SdkHttpInterceptorExtension;
+import global.maplink.http.HttpAsyncEngine;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import lombok.val;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static global.maplink.helpers.FutureHelper.isCancellation;
+import static java.util.Objects.nonNull;
+
+public class ConcurrencyLimitExtension implements SdkHttpInterceptorExtension {
+
+    public static final int PRIORITY = 300;
+
+    private static final String EXTENSION_NAME = "Concurrency Limit Extension";
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final Supplier<ConcurrencyLimiter> defaultLimiterFactory;
+
+    private final Map<Class<?>, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitExtension() {
+        this(AimdConcurrencyLimiter::new);
+    }
+
+    public ConcurrencyLimitExtension(Supplier<ConcurrencyLimiter> defaultLimiterFactory) {
+        this.defaultLimiterFactory = defaultLimiterFactory;
+    }
+
+    public ConcurrencyLimitExtension with(Class<? extends MapLinkServiceRequest> requestType, ConcurrencyLimiter limiter) {
+        limiters.put(requestType, limiter);
+        return this;
+    }
+
+    public ConcurrencyLimiter limiterFor(Class<?> requestType) {
+        return limiters.computeIfAbsent(requestType, t -> defaultLimiterFactory.get());
+    }
+
+    @Override
+    public <T> CompletableFuture<Response> intercept(
+            MapLinkServiceRequest<T> serviceRequest,
+            Request request,
+            HttpAsyncEngine next
+    ) {
+        val limiter = limiterFor(serviceRequest.getClass());
+        return limiter.acquire().thenCompose(permit -> {
+            CompletableFuture<Response> response;
+            try {
+                response = next.run(request);
+            } catch (RuntimeException e) {
+                permit.ignore();
+                throw e;
+            }
+            return response.whenComplete((r, e) -> {
+                if (isCancellation(e)) {
+                    permit.ignore();
+                } else if (nonNull(e) || isOverloaded(r)) {
+                    permit.dropped();
+                } else {
+                    permit.success();
+                }
+            });
+        });
+    }
+
+    private static boolean isOverloaded(Response response) {
+        return response.getStatusCode() == TOO_MANY_REQUESTS || response.getStatusCode() == SERVICE_UNAVAILABLE;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+}
@@ -0,0 +1,23 @@
+package global.maplink.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface ConcurrencyLimiter {
+
+    CompletableFuture<Permit> acquire();
+
+    int getLimit();
+
+    int getInFlight();
+
+    int getQueued();
+
+    interface Permit {
+
+        void success();
+
+        void dropped();
+
+        void ignore();
+    }
+}
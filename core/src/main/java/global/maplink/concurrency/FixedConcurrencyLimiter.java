@@ -0,0 +1,17 @@
+package global.maplink.concurrency;
+
+public class FixedConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+    public FixedConcurrencyLimiter(int limit) {
+        this(limit, UNBOUNDED_QUEUE);
+    }
+
+    public FixedConcurrencyLimiter(int limit, int maxQueueSize) {
+        super(limit, maxQueueSize);
+    }
+
+    @Override
+    protected int nextLimit(int currentLimit, long rttNanos, int inFlight, boolean dropped) {
+        return currentLimit;
+    }
+}
@@ -0,0 +1,91 @@
+package global.maplink.concurrency;
+
+import lombok.Getter;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
+
+@Getter
+public class GradientConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_SMOOTHING = 0.2;
+    public static final int DEFAULT_PROBE_INTERVAL = 1000;
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double smoothing;
+
+    private final int probeInterval;
+
+    private double estimatedLimit;
+
+    private long noLoadRttNanos;
+
+    private int samplesSinceProbe;
+
+    public GradientConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_SMOOTHING, DEFAULT_PROBE_INTERVAL);
+    }
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, int probeInterval) {
+        this(initialLimit, minLimit, maxLimit, smoothing, probeInterval, UNBOUNDED_QUEUE);
+    }
+
+    public GradientConcurrencyLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double smoothing,
+            int probeInterval,
+            int maxQueueSize
+    ) {
+        super(initialLimit, maxQueueSize);
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be in (0, 1]");
+        }
+        if (probeInterval < 1) {
+            throw new IllegalArgumentException("Probe interval must be positive");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.probeInterval = probeInterval;
+        this.estimatedLimit = initialLimit;
+    }
+
+    @Override
+    protected int nextLimit(int currentLimit, long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            estimatedLimit = max(minLimit, estimatedLimit * DROP_BACKOFF_RATIO);
+            return (int) estimatedLimit;
+        }
+        // Periodically forget the baseline so a permanently faster or slower backend is picked up
+        if (++samplesSinceProbe >= probeInterval) {
+            samplesSinceProbe = 0;
+            noLoadRttNanos = rttNanos;
+        }
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+        if (inFlight * 2 < estimatedLimit) {
+            return currentLimit;
+        }
+
+        double gradient = max(MIN_GRADIENT, min(1.0, (double) noLoadRttNanos / max(1, rttNanos)));
+        double newLimit = estimatedLimit * gradient + sqrt(estimatedLimit);
+        estimatedLimit = max(minLimit, min(maxLimit, estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+        return (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,82 @@
+package global.maplink.deadline;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static java.lang.System.nanoTime;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> threadCurrent = new ThreadLocal<>();
+
+    @Getter
+    private final Duration timeout;
+
+    private final long expiresAt;
+
+    private Deadline(Duration timeout, long expiresAt) {
+        this.timeout = timeout;
+        this.expiresAt = expiresAt;
+    }
+
+    public static Deadline after(Duration timeout) {
+        if (isNull(timeout) || timeout.isNegative()) {
+            throw new IllegalArgumentException("Deadline timeout must be zero or positive");
+        }
+        return new Deadline(timeout, nanoTime() + timeout.toNanos());
+    }
+
+    public static Deadline current() {
+        return threadCurrent.get();
+    }
+
+    public static Deadline resolve(Duration defaultTimeout) {
+        Deadline deadline = current();
+        if (nonNull(deadline)) {
+            return deadline;
+        }
+        return isNull(defaultTimeout) ? null : after(defaultTimeout);
+    }
+
+    public static <T> T runWith(Duration timeout, Callable<T> action) {
+        return runWith(after(timeout), action);
+    }
+
+    @SneakyThrows
+    public static <T> T runWith(Deadline deadline, Callable<T> action) {
+        Deadline previous = threadCurrent.get();
+        try {
+            // An inner scope never extends the deadline of the outer one
+            threadCurrent.set(nonNull(previous) ? previous.earliest(deadline) : deadline);
+            return action.call();
+        } finally {
+            if (nonNull(previous)) {
+                threadCurrent.set(previous);
+            } else {
+                threadCurrent.remove();
+            }
+        }
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, expiresAt - nanoTime());
+    }
+
+    public boolean isExpired() {
+        return expiresAt - nanoTime() <= 0;
+    }
+
+    public Deadline earliest(Deadline other) {
+        return isNull(other) || expiresAt - other.expiresAt <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Deadline[timeout=%s, remaining=%dms]", timeout, remainingNanos() / 1_000_000);
+    }
+}
@@ -0,0 +1,25 @@
+package global.maplink.deadline;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+    private final String service;
+    private final Duration timeout;
+
+    public DeadlineExceededException(Duration timeout) {
+        super(format("Deadline of %d ms exceeded", timeout.toMillis()));
+        this.service = null;
+        this.timeout = timeout;
+    }
+
+    public DeadlineExceededException(String service, Duration timeout) {
+        super(format("Deadline of %d ms exceeded calling %s", timeout.toMillis(), service));
+        this.service = service;
+        this.timeout = timeout;
+    }
+}
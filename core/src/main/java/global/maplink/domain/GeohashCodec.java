@@ -0,0 +1,156 @@
+package global.maplink.domain;
+
+import ch.hsr.geohash.GeoHash;
+import ch.hsr.geohash.WGS84Point;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static lombok.AccessLevel.PRIVATE;
+
+// Same output as ch.hsr GeoHash, computed over primitives without allocating objects per point
+@NoArgsConstructor(access = PRIVATE)
+public class GeohashCodec {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private static final byte[] BASE32_LOOKUP = new byte[128];
+
+    static {
+        Arrays.fill(BASE32_LOOKUP, (byte) -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            BASE32_LOOKUP[BASE32[i]] = (byte) i;
+        }
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        char[] out = new char[checkPrecision(precision)];
+        encode(latitude, longitude, precision, out, 0);
+        return new String(out);
+    }
+
+    public static List<String> encode(double[] coordinates, int precision) {
+        checkPrecision(precision);
+        List<String> encoded = new ArrayList<>(coordinates.length / 2);
+        char[] out = new char[precision];
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            encode(coordinates[i], coordinates[i + 1], precision, out, 0);
+            encoded.add(new String(out));
+        }
+        return encoded;
+    }
+
+    public static void encode(double latitude, double longitude, int precision, char[] out, int offset) {
+        if (abs(latitude) > 90 || abs(longitude) > 180) {
+            throw new IllegalArgumentException(
+                    "The supplied coordinates (" + latitude + "," + longitude + ") are out of range."
+            );
+        }
+        int bits = precision * 5;
+        int latitudeBits = bits / 2;
+        long lat = cellOf(latitude, -90, 180, latitudeBits);
+        long lon = cellOf(longitude, -180, 360, bits - latitudeBits);
+        // Bits alternate starting with longitude, so the last bit is longitude only when the total is odd
+        long hash = bits % 2 == 0 ? spread(lon) << 1 | spread(lat) : spread(lat) << 1 | spread(lon);
+        for (int i = precision - 1; i >= 0; i--) {
+            out[offset + i] = BASE32[(int) (hash & 0x1f)];
+            hash >>>= 5;
+        }
+    }
+
+    public static MaplinkPoint decode(String geohash) {
+        double[] out = new double[2];
+        decode(geohash, out, 0);
+        return new MaplinkPoint(out[0], out[1]);
+    }
+
+    public static double[] decode(List<String> geohashes) {
+        double[] coordinates = new double[geohashes.size() * 2];
+        for (int i = 0; i < geohashes.size(); i++) {
+            decode(geohashes.get(i), coordinates, i * 2);
+        }
+        return coordinates;
+    }
+
+    public static void decode(CharSequence geohash, double[] out, int offset) {
+        int length = geohash.length();
+        if (length > MAX_PRECISION) {
+            WGS84Point center = GeoHash.fromGeohashString(geohash.toString()).getBoundingBoxCenter();
+            out[offset] = center.getLatitude();
+            out[offset + 1] = center.getLongitude();
+            return;
+        }
+        long hash = 0;
+        for (int i = 0; i < length; i++) {
+            char c = geohash.charAt(i);
+            int value = c < BASE32_LOOKUP.length ? BASE32_LOOKUP[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid geohash [" + geohash + "]");
+            }
+            hash = hash << 5 | value;
+        }
+        int bits = length * 5;
+        int latitudeBits = bits / 2;
+        long lat = bits % 2 == 0 ? compact(hash) : compact(hash >>> 1);
+        long lon = bits % 2 == 0 ? compact(hash >>> 1) : compact(hash);
+        out[offset] = centerOf(lat, -90, 180, latitudeBits);
+        out[offset + 1] = centerOf(lon, -180, 360, bits - latitudeBits);
+    }
+
+    // Same cell a bisection of the range would reach, boundaries are exact in double so the estimate is only corrected
+    private static long cellOf(double value, double min, double span, int bits) {
+        if (bits == 0) {
+            return 0;
+        }
+        long cells = 1L << bits;
+        long cell = (long) floor((value - min) / span * cells);
+        cell = Math.max(0, Math.min(cells - 1, cell));
+        while (cell > 0 && value < boundary(cell, min, span, cells)) {
+            cell--;
+        }
+        while (cell < cells - 1 && value >= boundary(cell + 1, min, span, cells)) {
+            cell++;
+        }
+        return cell;
+    }
+
+    private static double centerOf(long cell, double min, double span, int bits) {
+        long cells = 1L << bits;
+        return (boundary(cell, min, span, cells) + boundary(cell + 1, min, span, cells)) / 2;
+    }
+
+    private static double boundary(long cell, double min, double span, long cells) {
+        return min + span * cell / cells;
+    }
+
+    private static long spread(long value) {
+        value &= 0xFFFFFFFFL;
+        value = (value | value << 16) & 0x0000FFFF0000FFFFL;
+        value = (value | value << 8) & 0x00FF00FF00FF00FFL;
+        value = (value | value << 4) & 0x0F0F0F0F0F0F0F0FL;
+        value = (value | value << 2) & 0x3333333333333333L;
+        return (value | value << 1) & 0x5555555555555555L;
+    }
+
+    private static long compact(long value) {
+        value &= 0x5555555555555555L;
+        value = (value | value >>> 1) & 0x3333333333333333L;
+        value = (value | value >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+        value = (value | value >>> 4) & 0x00FF00FF00FF00FFL;
+        value = (value | value >>> 8) & 0x0000FFFF0000FFFFL;
+        return (value | value >>> 16) & 0xFFFFFFFFL;
+    }
+
+    private static int checkPrecision(int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("A geohash can only be " + MAX_PRECISION + " character long.");
+        }
+        return precision;
+    }
+}
@@ -1,11 +1,7 @@
 package global.maplink.domain;
 
-import ch.hsr.geohash.GeoHash;
 import lombok.Value;
 
-import static ch.hsr.geohash.GeoHash.fromGeohashString;
-import static ch.hsr.geohash.GeoHash.geoHashStringWithCharacterPrecision;
-
 @Value
 public class MaplinkPoint {
     public static final int DEFAULT_GEOHASH_SIZE = 9;
@@ -20,7 +16,7 @@ public class MaplinkPoint {
     }
 
     public String toGeohash(int size) {
-        return geoHashStringWithCharacterPrecision(latitude, longitude, size);
+        return GeohashCodec.encode(latitude, longitude, size);
     }
 
     public double[] toArray() {
@@ -41,11 +37,7 @@ public class MaplinkPoint {
     }
 
     public static MaplinkPoint fromGeohash(String geohash) {
-        final GeoHash decodedHash = fromGeohashString(geohash);
-        return new MaplinkPoint(
-                decodedHash.getBoundingBoxCenter().getLatitude(),
-                decodedHash.getBoundingBoxCenter().getLongitude()
-        );
+        return GeohashCodec.decode(geohash);
     }
 
 }
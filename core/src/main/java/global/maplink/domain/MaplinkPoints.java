@@ -1,89 +1,135 @@
 package global.maplink.domain;
 
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.CharBuffer;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static java.lang.Math.floor;
-import static java.lang.Math.max;
 import static java.util.stream.IntStream.range;
 
-@RequiredArgsConstructor
 @EqualsAndHashCode
 @ToString
 public class MaplinkPoints implements Iterable<MaplinkPoint> {
 
-    public static final MaplinkPoints EMPTY = new MaplinkPoints(new MaplinkPoint[0]);
+    public static final MaplinkPoints EMPTY = new MaplinkPoints(new double[0]);
 
-    private static final double DEFAULT_POLYLINE_PRECISION = 1e5;
+    // Latitude and longitude pairs packed side by side, points are only created when accessed
+    private final double[] coordinates;
 
-    private final MaplinkPoint[] data;
+    public MaplinkPoints(MaplinkPoint[] data) {
+        this(pack(data));
+    }
+
+    private MaplinkPoints(double[] coordinates) {
+        this.coordinates = coordinates;
+    }
 
     public int size() {
-        return data.length;
+        return coordinates.length / 2;
     }
 
     public MaplinkPoint first() {
-        if (data.length == 0) {
+        if (coordinates.length == 0) {
             return null;
         }
-        return data[0];
+        return pointAt(0);
     }
 
     public MaplinkPoint get(int pos) {
-        if (pos >= data.length) {
+        if (pos >= size()) {
             return null;
         }
-        return data[pos];
+        return pointAt(pos);
     }
 
     public MaplinkPoint last() {
-        if (data.length == 0) {
+        if (coordinates.length == 0) {
             return null;
         }
-        return data[data.length - 1];
+        return pointAt(size() - 1);
+    }
+
+    public double getLatitude(int pos) {
+        return coordinates[pos * 2];
+    }
+
+    public double getLongitude(int pos) {
+        return coordinates[pos * 2 + 1];
+    }
+
+    public double[] toArray() {
+        return coordinates.clone();
     }
 
     public String toPolyline() {
-        StringBuilder sb = new StringBuilder(max(20, data.length * 3));
-        int prevLat = 0;
-        int prevLon = 0;
-        for (MaplinkPoint point : data) {
-            int num = (int) floor(point.getLatitude() * DEFAULT_POLYLINE_PRECISION);
-            encodePolylineNumber(sb, num - prevLat);
-            prevLat = num;
-            num = (int) floor(point.getLongitude() * DEFAULT_POLYLINE_PRECISION);
-            encodePolylineNumber(sb, num - prevLon);
-            prevLon = num;
+        return toPolyline(PolylinePrecision.loadDefault());
+    }
+
+    public String toPolyline(PolylinePrecision precision) {
+        char[] encoded = new char[polylineLength(precision)];
+        int pos = 0;
+        long prevLat = 0;
+        long prevLon = 0;
+        for (int i = 0; i < coordinates.length; i += 2) {
+            long lat = precision.scale(coordinates[i]);
+            long lon = precision.scale(coordinates[i + 1]);
+            pos = encodePolylineNumber(encoded, pos, lat - prevLat);
+            pos = encodePolylineNumber(encoded, pos, lon - prevLon);
+            prevLat = lat;
+            prevLon = lon;
         }
-        return sb.toString();
+        return new String(encoded);
     }
 
-    private static void encodePolylineNumber(StringBuilder sb, int num) {
-        num = num << 1;
-        if (num < 0) {
-            num = ~num;
+    public int polylineLength(PolylinePrecision precision) {
+        int length = 0;
+        long prevLat = 0;
+        long prevLon = 0;
+        for (int i = 0; i < coordinates.length; i += 2) {
+            long lat = precision.scale(coordinates[i]);
+            long lon = precision.scale(coordinates[i + 1]);
+            length += polylineNumberLength(lat - prevLat) + polylineNumberLength(lon - prevLon);
+            prevLat = lat;
+            prevLon = lon;
         }
+        return length;
+    }
+
+    private static int encodePolylineNumber(char[] encoded, int pos, long num) {
+        num = zigzag(num);
+        while (num >= 0x20) {
+            encoded[pos++] = (char) ((0x20 | (num & 0x1f)) + 63);
+            num >>= 5;
+        }
+        encoded[pos++] = (char) (num + 63);
+        return pos;
+    }
+
+    private static int polylineNumberLength(long num) {
+        num = zigzag(num);
+        int length = 1;
         while (num >= 0x20) {
-            int nextValue = (0x20 | (num & 0x1f)) + 63;
-            sb.append((char) (nextValue));
+            length++;
             num >>= 5;
         }
-        num += 63;
-        sb.append((char) (num));
+        return length;
+    }
+
+    private static long zigzag(long num) {
+        num = num << 1;
+        return num < 0 ? ~num : num;
     }
 
     public List<String> toGeohash() {
-        return toList(MaplinkPoint::toGeohash);
+        return toGeohash(MaplinkPoint.DEFAULT_GEOHASH_SIZE);
     }
 
     public List<String> toGeohash(int size) {
-        return toList(point -> point.toGeohash(size));
+        return GeohashCodec.encode(coordinates, size);
     }
 
     public <T> List<T> toList(Function<MaplinkPoint, T> transform) {
@@ -93,21 +139,34 @@ public class MaplinkPoints implements Iterable<MaplinkPoint> {
     }
 
     public List<MaplinkPoint> toList() {
-        return Arrays.asList(data);
+        return new PointsView();
     }
 
     public Stream<MaplinkPoint> stream() {
-        return Arrays.stream(data);
+        return range(0, size()).mapToObj(this::pointAt);
     }
 
     @Override
     public Iterator<MaplinkPoint> iterator() {
-        return stream().iterator();
+        return toList().iterator();
     }
 
     @Override
     public Spliterator<MaplinkPoint> spliterator() {
-        return Arrays.spliterator(data);
+        return stream().spliterator();
+    }
+
+    private MaplinkPoint pointAt(int pos) {
+        return new MaplinkPoint(coordinates[pos * 2], coordinates[pos * 2 + 1]);
+    }
+
+    private static double[] pack(MaplinkPoint[] data) {
+        double[] packed = new double[data.length * 2];
+        for (int i = 0; i < data.length; i++) {
+            packed[i * 2] = data[i].getLatitude();
+            packed[i * 2 + 1] = data[i].getLongitude();
+        }
+        return packed;
     }
 
     public static MaplinkPoints from(double... points) {
@@ -117,60 +176,107 @@ public class MaplinkPoints implements Iterable<MaplinkPoint> {
         if (points.length % 2 != 0) {
             throw new IllegalArgumentException("MaplinkPoints.from requires coordinates in pairs");
         }
-        return new MaplinkPoints(
-                range(0, points.length / 2)
-                        .map(i -> i * 2)
-                        .mapToObj(v -> new MaplinkPoint(points[v], points[v + 1]))
-                        .toArray(MaplinkPoint[]::new)
-        );
+        return new MaplinkPoints(points.clone());
     }
 
     public static MaplinkPoints from(double[][] points) {
-        return new MaplinkPoints(
-                Arrays.stream(points)
-                        .map(MaplinkPoint::from)
-                        .toArray(MaplinkPoint[]::new)
-        );
+        double[] packed = new double[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            MaplinkPoint point = MaplinkPoint.from(points[i]);
+            packed[i * 2] = point.getLatitude();
+            packed[i * 2 + 1] = point.getLongitude();
+        }
+        return new MaplinkPoints(packed);
     }
 
     public static MaplinkPoints fromGeohash(List<String> geohash) {
-        return new MaplinkPoints(
-                geohash.stream()
-                        .map(MaplinkPoint::fromGeohash)
-                        .toArray(MaplinkPoint[]::new)
-        );
+        return new MaplinkPoints(GeohashCodec.decode(geohash));
     }
 
     public static MaplinkPoints fromPolyline(String encoded) {
-        List<MaplinkPoint> points = new LinkedList<>();
+        return fromPolyline(encoded, PolylinePrecision.loadDefault());
+    }
+
+    public static MaplinkPoints fromPolyline(String encoded, PolylinePrecision precision) {
+        return decodePolyline(encoded, precision);
+    }
+
+    public static MaplinkPoints fromPolyline(char[] encoded, int offset, int length) {
+        return fromPolyline(encoded, offset, length, PolylinePrecision.loadDefault());
+    }
+
+    public static MaplinkPoints fromPolyline(char[] encoded, int offset, int length, PolylinePrecision precision) {
+        return decodePolyline(CharBuffer.wrap(encoded, offset, length), precision);
+    }
+
+    // Strings and char buffers are read in place, neither is copied before decoding
+    private static MaplinkPoints decodePolyline(CharSequence encoded, PolylinePrecision precision) {
         int index = 0;
         int len = encoded.length();
-        int[] coordinates = new int[]{0, 0};
+        double[] decoded = new double[countPolylinePoints(encoded, len) * 2];
+        int size = 0;
+        long lat = 0;
+        long lon = 0;
 
         while (index < len) {
             int b;
-            int[] delta = new int[]{0, 0};
-            for (int i = 0; i < 2; i++) {
-                int shift = 0;
-                int result = 0;
-                do {
-                    if(index >= len){
-                        break;
-                    }
-                    b = encoded.charAt(index++) - 63;
-                    result |= (b & 0x1f) << shift;
-                    shift += 5;
-                } while (b >= 0x20);
-                delta[i] = ((result & 1) != 0 ? ~(result >> 1) : (result >> 1));
-                coordinates[i] += delta[i];
-            }
+            int shift = 0;
+            long result = 0;
+            do {
+                if (index >= len) {
+                    break;
+                }
+                b = encoded.charAt(index++) - 63;
+                result |= (long) (b & 0x1f) << shift;
+                shift += 5;
+            } while (b >= 0x20);
+            lat += ((result & 1) != 0 ? ~(result >> 1) : (result >> 1));
 
-            points.add(new MaplinkPoint(
-                    (double) coordinates[0] / DEFAULT_POLYLINE_PRECISION,
-                    (double) coordinates[1] / DEFAULT_POLYLINE_PRECISION
-            ));
+            shift = 0;
+            result = 0;
+            do {
+                if (index >= len) {
+                    break;
+                }
+                b = encoded.charAt(index++) - 63;
+                result |= (long) (b & 0x1f) << shift;
+                shift += 5;
+            } while (b >= 0x20);
+            lon += ((result & 1) != 0 ? ~(result >> 1) : (result >> 1));
+
+            decoded[size++] = precision.unscale(lat);
+            decoded[size++] = precision.unscale(lon);
+        }
+        return new MaplinkPoints(decoded);
+    }
+
+    // Every number ends on a char without the continuation bit, a truncated tail still yields a point
+    private static int countPolylinePoints(CharSequence encoded, int len) {
+        int numbers = 0;
+        for (int i = 0; i < len; i++) {
+            if (encoded.charAt(i) - 63 < 0x20) {
+                numbers++;
+            }
+        }
+        if (len > 0 && encoded.charAt(len - 1) - 63 >= 0x20) {
+            numbers++;
         }
-        return new MaplinkPoints(points.stream().toArray(MaplinkPoint[]::new));
+        return (numbers + 1) / 2;
     }
 
+    private class PointsView extends AbstractList<MaplinkPoint> implements RandomAccess {
+
+        @Override
+        public MaplinkPoint get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return pointAt(index);
+        }
+
+        @Override
+        public int size() {
+            return MaplinkPoints.this.size();
+        }
+    }
 }
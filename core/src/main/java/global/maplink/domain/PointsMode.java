@@ -3,10 +3,10 @@ package global.maplink.domain;
 import global.maplink.MapLinkSDK;
 import lombok.SneakyThrows;
 
-import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
+
+import static java.util.Objects.nonNull;
 
 public enum PointsMode {
     OBJECT,
@@ -20,27 +20,37 @@ public enum PointsMode {
     private static Supplier<PointsMode> externalSupplier = () -> null;
 
     public static PointsMode current() {
-        return Stream.of(
-                        threadCurrent::get,
-                        externalSupplier,
-                        fromSDK()
-                ).map(Supplier::get)
-                .filter(Objects::nonNull)
-                .findAny()
-                .orElseGet(PointsMode::loadDefault);
+        PointsMode mode = threadCurrent.get();
+        if (nonNull(mode)) {
+            return mode;
+        }
+        mode = externalSupplier.get();
+        if (nonNull(mode)) {
+            return mode;
+        }
+        mode = fromSDK();
+        if (nonNull(mode)) {
+            return mode;
+        }
+        return loadDefault();
     }
 
-    private static Supplier<PointsMode> fromSDK() {
-        return () -> MapLinkSDK.isInitialized() ? MapLinkSDK.getInstance().getPointsMode() : null;
+    private static PointsMode fromSDK() {
+        return MapLinkSDK.isInitialized() ? MapLinkSDK.getInstance().getPointsMode() : null;
     }
 
     @SneakyThrows
     public static <T> T runWith(PointsMode mode, Callable<T> action) {
+        PointsMode previous = threadCurrent.get();
         try {
             threadCurrent.set(mode);
             return action.call();
         } finally {
-            threadCurrent.set(null);
+            if (nonNull(previous)) {
+                threadCurrent.set(previous);
+            } else {
+                threadCurrent.remove();
+            }
         }
     }
 
@@ -0,0 +1,26 @@
+package global.maplink.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PolylinePrecision {
+    E5(1e5),
+    E6(1e6),
+    E7(1e7);
+
+    private final double factor;
+
+    long scale(double coordinate) {
+        return Math.round(coordinate * factor);
+    }
+
+    double unscale(long value) {
+        return value / factor;
+    }
+
+    public static PolylinePrecision loadDefault() {
+        return E5;
+    }
+}
@@ -0,0 +1,18 @@
+package global.maplink.extensions;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.http.HttpAsyncEngine;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface SdkHttpInterceptorExtension extends SdkExtension {
+
+    <T> CompletableFuture<Response> intercept(
+            MapLinkServiceRequest<T> serviceRequest,
+            Request request,
+            HttpAsyncEngine next
+    );
+
+}
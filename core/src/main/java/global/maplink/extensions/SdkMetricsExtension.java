@@ -0,0 +1,23 @@
+package global.maplink.extensions;
+
+import global.maplink.metrics.RequestPhase;
+
+public interface SdkMetricsExtension extends SdkExtension {
+
+    default void onRequestStarted(String service) {
+    }
+
+    default void onPhase(String service, RequestPhase phase, long durationNanos, boolean success) {
+    }
+
+    default void onResponse(String service, int statusCode) {
+    }
+
+    default void onRequestFinished(String service, long durationNanos, Throwable error) {
+    }
+
+    // Size of the chunks a batch request was split into
+    default void onChunkSize(String service, int chunkSize) {
+    }
+
+}
@@ -0,0 +1,10 @@
+package global.maplink.extensions;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.tracing.RequestTrace;
+
+public interface SdkTracingExtension extends SdkExtension {
+
+    RequestTrace startTrace(String service, MapLinkServiceRequest<?> request);
+
+}
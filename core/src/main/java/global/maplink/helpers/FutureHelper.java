@@ -1,24 +1,66 @@
 package global.maplink.helpers;
 
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public class FutureHelper {
 
     public static <T> T await(CompletableFuture<T> future) {
+        Deadline deadline = Deadline.current();
+        if (nonNull(deadline)) {
+            return await(future, deadline);
+        }
         try {
             return future.get();
         } catch (InterruptedException | ExecutionException e) {
-            if (e instanceof ExecutionException && e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            }
-            throw new RuntimeException(e);
+            throw rethrow(future, e);
+        }
+    }
+
+    public static <T> T await(CompletableFuture<T> future, Duration timeout) {
+        return await(future, Deadline.after(timeout));
+    }
+
+    public static <T> T await(CompletableFuture<T> future, Deadline deadline) {
+        try {
+            return future.get(deadline.remainingNanos(), NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DeadlineExceededException(deadline.getTimeout());
+        } catch (InterruptedException | ExecutionException e) {
+            throw rethrow(future, e);
+        }
+    }
+
+    // Cancelled calls (by the caller, an expired deadline or a winning hedge) say nothing about the service health
+    public static boolean isCancellation(Throwable error) {
+        Throwable cause = error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error;
+        return cause instanceof CancellationException;
+    }
+
+    private static RuntimeException rethrow(CompletableFuture<?> future, Exception e) {
+        if (e instanceof InterruptedException) {
+            // The caller gave up waiting, the pending call is aborted and the interruption preserved
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        if (e instanceof ExecutionException && e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
         }
+        return new RuntimeException(e);
     }
 
 }
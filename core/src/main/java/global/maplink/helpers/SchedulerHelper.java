@@ -0,0 +1,36 @@
+package global.maplink.helpers;
+
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public class SchedulerHelper {
+
+    private static final String SHARED_SCHEDULER_NAME = "maplink-sdk-scheduler";
+
+    public static ScheduledExecutorService sharedScheduler() {
+        return SharedSchedulerHolder.INSTANCE;
+    }
+
+    public static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, format("%s-%d", name, counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class SharedSchedulerHolder {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+                daemonThreadFactory(SHARED_SCHEDULER_NAME)
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package global.maplink.helpers;
+
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+public class ServiceNameHelper {
+
+    private static final String PATH_FIELD = "PATH";
+
+    private static final ClassValue<String> SERVICE_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            try {
+                Field path = type.getField(PATH_FIELD);
+                if (Modifier.isStatic(path.getModifiers()) && path.getType() == String.class) {
+                    return (String) path.get(null);
+                }
+            } catch (NoSuchFieldException | IllegalAccessException ignored) {
+                // requests without a PATH constant are grouped by class
+            }
+            return type.getName();
+        }
+    };
+
+    public static String serviceOf(Class<?> requestType) {
+        return SERVICE_NAMES.get(requestType);
+    }
+}
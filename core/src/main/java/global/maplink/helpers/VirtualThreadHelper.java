@@ -0,0 +1,57 @@
+package global.maplink.helpers;
+
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.PRIVATE;
+
+// Virtual threads are looked up at runtime, the core keeps targeting Java 8 and uses them when running on Java 21+
+@NoArgsConstructor(access = PRIVATE)
+public class VirtualThreadHelper {
+
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    public static boolean isSupported() {
+        return nonNull(IS_VIRTUAL) && nonNull(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR);
+    }
+
+    @SneakyThrows
+    public static boolean isVirtual(Thread thread) {
+        return nonNull(IS_VIRTUAL) && (boolean) IS_VIRTUAL.invokeExact(thread);
+    }
+
+    @SneakyThrows
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+        }
+        return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+}
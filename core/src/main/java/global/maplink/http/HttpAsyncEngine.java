@@ -6,6 +6,8 @@ import global.maplink.http.request.Request;
 
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.StreamSupport;
 
 public interface HttpAsyncEngine {
@@ -14,6 +16,20 @@ public interface HttpAsyncEngine {
 
     CompletableFuture<Response> run(Request request);
 
+    // Blocks the caller until the response is available, an interrupt cancels the exchange
+    default Response runBlocking(Request request) {
+        CompletableFuture<Response> exchange = run(request);
+        try {
+            return exchange.get();
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
     static HttpAsyncEngine loadDefault() {
         ServiceLoader<HttpAsyncEngine> load = ServiceLoader.load(HttpAsyncEngine.class);
         return StreamSupport.stream(load.spliterator(), false)
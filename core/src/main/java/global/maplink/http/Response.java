@@ -3,20 +3,42 @@ package global.maplink.http;
 import global.maplink.http.exceptions.MapLinkHttpException;
 import global.maplink.json.JsonMapper;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
-@RequiredArgsConstructor
-public class Response {
+import static java.util.Collections.emptyMap;
+import static java.util.Locale.ROOT;
+
+public class Response implements AutoCloseable {
 
     @Getter
     private final int statusCode;
 
+    @Getter
     private final String contentType;
 
     private final byte[] body;
 
+    private final Map<String, String> headers;
+
+    public Response(int statusCode, String contentType, byte[] body) {
+        this(statusCode, contentType, body, emptyMap());
+    }
+
+    public Response(int statusCode, String contentType, byte[] body, Map<String, String> headers) {
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.body = body;
+        this.headers = normalize(headers);
+    }
+
+    public Optional<String> getHeader(String name) {
+        return Optional.ofNullable(headers.get(name.toLowerCase(ROOT)));
+    }
+
     public <T> T parseBodyObject(JsonMapper mapper, Class<T> type) {
         return parseBodyObject(mapper, type, true);
     }
@@ -56,4 +78,17 @@ public class Response {
             throw new MapLinkHttpException(statusCode, contentType, body);
         }
     }
+
+    @Override
+    public void close() {
+    }
+
+    private static Map<String, String> normalize(Map<String, String> headers) {
+        if (headers.isEmpty()) {
+            return emptyMap();
+        }
+        Map<String, String> normalized = new HashMap<>(headers.size() * 2);
+        headers.forEach((name, value) -> normalized.put(name.toLowerCase(ROOT), value));
+        return normalized;
+    }
 }
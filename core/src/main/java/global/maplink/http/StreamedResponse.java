@@ -0,0 +1,96 @@
+package global.maplink.http;
+
+import global.maplink.http.exceptions.MapLinkHttpException;
+import global.maplink.json.JsonMapper;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import static global.maplink.helpers.StreamHelper.closeQuietly;
+import static global.maplink.helpers.StreamHelper.readAllBytes;
+import static java.util.Collections.emptyMap;
+
+public class StreamedResponse extends Response {
+
+    private InputStream stream;
+
+    private byte[] buffered;
+
+    public StreamedResponse(int statusCode, String contentType, InputStream body) {
+        this(statusCode, contentType, body, emptyMap());
+    }
+
+    public StreamedResponse(int statusCode, String contentType, InputStream body, Map<String, String> headers) {
+        super(statusCode, contentType, null, headers);
+        this.stream = body;
+    }
+
+    @Override
+    public <T> T parseBodyObject(JsonMapper mapper, Class<T> type, boolean throwOnError) {
+        if (throwOnError) throwIfIsError();
+        byte[] bytes = getBuffered();
+        if (bytes != null) {
+            return mapper.fromJson(bytes, type);
+        }
+        InputStream input = takeStream();
+        try {
+            return mapper.fromJson(input, type);
+        } finally {
+            closeQuietly(input);
+        }
+    }
+
+    @Override
+    public <T> List<T> parseBodyArray(JsonMapper mapper, Class<T> type, boolean throwOnError) {
+        if (throwOnError) throwIfIsError();
+        byte[] bytes = getBuffered();
+        if (bytes != null) {
+            return mapper.fromJsonList(bytes, type);
+        }
+        InputStream input = takeStream();
+        try {
+            return mapper.fromJsonList(input, type);
+        } finally {
+            closeQuietly(input);
+        }
+    }
+
+    @Override
+    public void throwIfIsError() {
+        if (isError()) {
+            throw new MapLinkHttpException(getStatusCode(), getContentType(), buffer());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closeQuietly(stream);
+        stream = null;
+    }
+
+    private synchronized byte[] getBuffered() {
+        return buffered;
+    }
+
+    private synchronized InputStream takeStream() {
+        if (stream == null) {
+            throw new IllegalStateException("Response body was already consumed");
+        }
+        InputStream taken = stream;
+        stream = null;
+        return taken;
+    }
+
+    private synchronized byte[] buffer() {
+        if (buffered == null) {
+            InputStream input = takeStream();
+            try {
+                buffered = readAllBytes(input);
+            } finally {
+                closeQuietly(input);
+            }
+        }
+        return buffered;
+    }
+}
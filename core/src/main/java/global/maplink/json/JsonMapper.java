@@ -2,10 +2,12 @@ package global.maplink.json;
 
 import global.maplink.NoImplementationFoundException;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.stream.StreamSupport;
 
+import static global.maplink.helpers.StreamHelper.readAllBytes;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 public interface JsonMapper {
@@ -16,8 +18,16 @@ public interface JsonMapper {
         return fromJson(data.getBytes(), type);
     }
 
+    default <T> T fromJson(InputStream data, Class<T> type) {
+        return fromJson(readAllBytes(data), type);
+    }
+
     <T> List<T> fromJsonList(byte[] data, Class<T> type);
 
+    default <T> List<T> fromJsonList(InputStream data, Class<T> type) {
+        return fromJsonList(readAllBytes(data), type);
+    }
+
     default <T> List<T> fromJsonList(String data, Class<T> type) {
         return fromJsonList(data.getBytes(), type);
     }
@@ -0,0 +1,10 @@
+package global.maplink.metrics;
+
+public enum RequestPhase {
+    VALIDATION,
+    SERIALIZATION,
+    TOKEN,
+    FILTERS,
+    HTTP,
+    PARSING
+}
@@ -0,0 +1,58 @@
+package global.maplink.retry;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RetryBudget {
+
+    public static final double DEFAULT_RETRY_RATIO = 0.1;
+    public static final int DEFAULT_MAX_TOKENS = 10;
+
+    private static final long TOKEN_SCALE = 1000;
+
+    @Getter
+    private final double retryRatio;
+
+    private final long depositPerRequest;
+
+    private final long capacity;
+
+    private final AtomicLong balance;
+
+    public RetryBudget() {
+        this(DEFAULT_RETRY_RATIO, DEFAULT_MAX_TOKENS);
+    }
+
+    public RetryBudget(double retryRatio, int maxTokens) {
+        if (retryRatio < 0 || retryRatio > 1) {
+            throw new IllegalArgumentException("Retry ratio must be between 0 and 1");
+        }
+        if (maxTokens < 0) {
+            throw new IllegalArgumentException("Max tokens must not be negative");
+        }
+        this.retryRatio = retryRatio;
+        this.depositPerRequest = (long) (retryRatio * TOKEN_SCALE);
+        this.capacity = maxTokens * TOKEN_SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void onRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(capacity, current + deposit));
+    }
+
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN_SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN_SCALE));
+        return true;
+    }
+
+    public double getAvailableRetries() {
+        return (double) balance.get() / TOKEN_SCALE;
+    }
+}
@@ -0,0 +1,159 @@
+package global.maplink.retry;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.extensions.SdkHttpInterceptorExtension;
+import global.maplink.http.HttpAsyncEngine;
+import global.maplink.http.Response;
+import global.maplink.http.request.GetRequest;
+import global.maplink.http.request.Request;
+import lombok.Getter;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static global.maplink.helpers.SchedulerHelper.sharedScheduler;
+import static global.maplink.helpers.StreamHelper.closeQuietly;
+import static java.lang.Math.max;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class RetryExtension implements SdkHttpInterceptorExtension {
+
+    public static final int PRIORITY = 100;
+
+    public static final String HEADER_RETRY_AFTER = "retry-after";
+
+    private static final String EXTENSION_NAME = "Retry Extension";
+
+    private static final long NO_RETRY = -1;
+
+    @Getter
+    private final RetryPolicy policy;
+
+    @Getter
+    private final RetryBudget budget;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Set<Class<?>> retryableRequestTypes = ConcurrentHashMap.newKeySet();
+
+    public RetryExtension() {
+        this(RetryPolicy.defaults(), new RetryBudget());
+    }
+
+    public RetryExtension(RetryPolicy policy, RetryBudget budget) {
+        this(policy, budget, sharedScheduler());
+    }
+
+    public RetryExtension(RetryPolicy policy, RetryBudget budget, ScheduledExecutorService scheduler) {
+        this.policy = policy;
+        this.budget = budget;
+        this.scheduler = scheduler;
+    }
+
+    // Only GET requests are retried by default, calls with side effects must be enabled explicitly
+    public RetryExtension retrying(Class<? extends MapLinkServiceRequest> requestType) {
+        retryableRequestTypes.add(requestType);
+        return this;
+    }
+
+    @Override
+    public <T> CompletableFuture<Response> intercept(
+            MapLinkServiceRequest<T> serviceRequest,
+            Request request,
+            HttpAsyncEngine next
+    ) {
+        budget.onRequest();
+        if (!isIdempotent(serviceRequest, request)) {
+            return next.run(request);
+        }
+        val result = new CompletableFuture<Response>();
+        attempt(request, next, 1, result);
+        return result;
+    }
+
+    private boolean isIdempotent(MapLinkServiceRequest<?> serviceRequest, Request request) {
+        return request instanceof GetRequest || retryableRequestTypes.contains(serviceRequest.getClass());
+    }
+
+    private void attempt(Request request, HttpAsyncEngine next, int attempt, CompletableFuture<Response> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<Response> call;
+        try {
+            call = next.run(request);
+        } catch (RuntimeException e) {
+            call = new CompletableFuture<>();
+            call.completeExceptionally(e);
+        }
+        call.whenComplete((response, error) -> {
+            long delay = retryDelay(attempt, response, error);
+            if (delay == NO_RETRY) {
+                if (nonNull(error)) {
+                    result.completeExceptionally(error);
+                } else if (!result.complete(response)) {
+                    closeQuietly(response);
+                }
+                return;
+            }
+            closeQuietly(response);
+            scheduler.schedule(() -> attempt(request, next, attempt + 1, result), delay, MILLISECONDS);
+        });
+    }
+
+    private long retryDelay(int attempt, Response response, Throwable error) {
+        if (attempt >= policy.getMaxAttempts()) {
+            return NO_RETRY;
+        }
+        boolean retryable = nonNull(error) ? policy.isRetryable(error) : policy.isRetryable(response);
+        if (!retryable) {
+            return NO_RETRY;
+        }
+        long delay = policy.backoffMillis(attempt);
+        if (nonNull(response)) {
+            val retryAfter = response.getHeader(HEADER_RETRY_AFTER).flatMap(v -> parseRetryAfter(v, Instant.now()));
+            if (retryAfter.isPresent()) {
+                if (retryAfter.get().compareTo(policy.getMaxRetryAfter()) > 0) {
+                    return NO_RETRY;
+                }
+                delay = max(delay, retryAfter.get().toMillis());
+            }
+        }
+        return budget.tryAcquireRetry() ? delay : NO_RETRY;
+    }
+
+    static Optional<Duration> parseRetryAfter(String value, Instant now) {
+        String trimmed = value.trim();
+        try {
+            return Optional.of(Duration.ofSeconds(max(0, Long.parseLong(trimmed))));
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, value could be an http-date
+        }
+        try {
+            val date = ZonedDateTime.parse(trimmed, RFC_1123_DATE_TIME).toInstant();
+            return Optional.of(date.isAfter(now) ? Duration.between(now, date) : Duration.ZERO);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+}
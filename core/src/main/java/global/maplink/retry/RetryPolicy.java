@@ -0,0 +1,62 @@
+package global.maplink.retry;
+
+import global.maplink.http.Response;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.lang.Math.min;
+
+@Value
+@Builder
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(200);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(30);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int MAX_BACKOFF_SHIFT = 30;
+
+    @Builder.Default
+    int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    @Builder.Default
+    Duration baseDelay = DEFAULT_BASE_DELAY;
+
+    @Builder.Default
+    Duration maxDelay = DEFAULT_MAX_DELAY;
+
+    // Retry-After above this value is not waited for, the response is returned to the caller instead
+    @Builder.Default
+    Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+
+    public static RetryPolicy defaults() {
+        return builder().build();
+    }
+
+    public boolean isRetryable(Response response) {
+        return response.getStatusCode() == TOO_MANY_REQUESTS || response.isServerError();
+    }
+
+    public boolean isRetryable(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof IOException;
+    }
+
+    public long backoffMillis(int attempt) {
+        long ceiling = min(
+                maxDelay.toMillis(),
+                baseDelay.toMillis() << min(attempt - 1, MAX_BACKOFF_SHIFT)
+        );
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
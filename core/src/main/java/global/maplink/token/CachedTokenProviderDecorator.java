@@ -1,41 +1,106 @@
 package global.maplink.token;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
-import java.util.HashMap;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
-@RequiredArgsConstructor
+@Slf4j
 public class CachedTokenProviderDecorator implements TokenProvider {
 
+    private static final int EXPIRATION_MARGIN_SECONDS = 30;
+
     private final TokenProvider delegate;
 
-    private final Map<String, MapLinkToken> cache = synchronizedMap(new HashMap<>());
+    private final TokenRefreshScheduler refreshScheduler;
+
+    private final Map<String, MapLinkToken> cache = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<MapLinkToken>> inFlight = new ConcurrentHashMap<>();
+
+    private final Set<String> usedSinceRefresh = ConcurrentHashMap.newKeySet();
+
+    public CachedTokenProviderDecorator(TokenProvider delegate) {
+        this(delegate, null);
+    }
+
+    public CachedTokenProviderDecorator(TokenProvider delegate, TokenRefreshScheduler refreshScheduler) {
+        this.delegate = delegate;
+        this.refreshScheduler = refreshScheduler;
+    }
 
     @Override
     public CompletableFuture<MapLinkToken> getToken(String clientId, String secret) {
         val key = clientId + ":" + secret;
+        if (nonNull(refreshScheduler)) {
+            usedSinceRefresh.add(key);
+        }
 
-        if (cache.containsKey(key)) {
-            MapLinkToken token = cache.get(key);
-            if (!token.isAboutToExpireIn(30)) {
-                return completedFuture(token);
-            } else {
-                cache.remove(key);
-            }
+        MapLinkToken token = cache.get(key);
+        if (nonNull(token) && !token.isAboutToExpireIn(EXPIRATION_MARGIN_SECONDS)) {
+            return completedFuture(token);
         }
 
-        return delegate.getToken(clientId, secret).whenComplete((t, e) -> {
-            if (nonNull(t) && isNull(e)) {
-                cache.put(key, t);
+        return refresh(key, clientId, secret, token);
+    }
+
+    private CompletableFuture<MapLinkToken> refresh(String key, String clientId, String secret, MapLinkToken seen) {
+        val request = new CompletableFuture<MapLinkToken>();
+        val running = inFlight.putIfAbsent(key, request);
+        if (nonNull(running)) {
+            return running;
+        }
+
+        // A concurrent refresh could have finished after the caller read the cache
+        MapLinkToken current = cache.get(key);
+        if (nonNull(current) && current != seen && !current.isAboutToExpireIn(EXPIRATION_MARGIN_SECONDS)) {
+            inFlight.remove(key, request);
+            request.complete(current);
+            return request;
+        }
+
+        try {
+            delegate.getToken(clientId, secret).whenComplete((t, e) -> {
+                if (nonNull(t) && isNull(e)) {
+                    cache.put(key, t);
+                    scheduleRefreshAhead(key, clientId, secret, t);
+                }
+                inFlight.remove(key, request);
+                if (nonNull(e)) {
+                    request.completeExceptionally(e);
+                } else {
+                    request.complete(t);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, request);
+            request.completeExceptionally(e);
+        }
+        return request;
+    }
+
+    private void scheduleRefreshAhead(String key, String clientId, String secret, MapLinkToken token) {
+        if (isNull(refreshScheduler)) {
+            return;
+        }
+        refreshScheduler.schedule(Instant.now(), token, () -> {
+            // Idle credentials stop being renewed, the next call will fetch a token on demand
+            if (!usedSinceRefresh.remove(key)) {
+                return;
             }
+            refresh(key, clientId, secret, token).whenComplete((t, e) -> {
+                if (nonNull(e)) {
+                    log.warn("Background token renewal failed for clientId {}", clientId, e);
+                }
+            });
         });
     }
 }
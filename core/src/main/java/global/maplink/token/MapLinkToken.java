@@ -2,10 +2,17 @@ package global.maplink.token;
 
 import global.maplink.http.request.Request;
 
+import java.time.Instant;
+
 public interface MapLinkToken {
     boolean isExpired();
 
     boolean isAboutToExpireIn(int seconds);
 
+    // Tokens without a known expiration are renewed on demand only
+    default Instant getExpiration() {
+        return null;
+    }
+
     Request applyOn(Request request);
 }
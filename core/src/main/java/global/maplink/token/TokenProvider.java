@@ -16,4 +16,8 @@ public interface TokenProvider {
         val oauth = new OAuthTokenProvider(http, env, mapper);
         return withCache ? new CachedTokenProviderDecorator(oauth) : oauth;
     }
+
+    static TokenProvider create(HttpAsyncEngine http, Environment env, JsonMapper mapper, TokenRefreshScheduler refreshScheduler) {
+        return new CachedTokenProviderDecorator(new OAuthTokenProvider(http, env, mapper), refreshScheduler);
+    }
 }
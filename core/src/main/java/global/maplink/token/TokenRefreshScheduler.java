@@ -0,0 +1,62 @@
+package global.maplink.token;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static global.maplink.helpers.SchedulerHelper.sharedScheduler;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Getter
+public class TokenRefreshScheduler {
+
+    public static final double DEFAULT_LIFETIME_FRACTION = 0.75;
+    public static final double DEFAULT_JITTER_FRACTION = 0.1;
+    private static final long MINIMUM_DELAY_MILLIS = 1000;
+
+    private final ScheduledExecutorService executor;
+
+    private final double lifetimeFraction;
+
+    private final double jitterFraction;
+
+    public TokenRefreshScheduler() {
+        this(DEFAULT_LIFETIME_FRACTION, DEFAULT_JITTER_FRACTION);
+    }
+
+    public TokenRefreshScheduler(double lifetimeFraction, double jitterFraction) {
+        this(sharedScheduler(), lifetimeFraction, jitterFraction);
+    }
+
+    public TokenRefreshScheduler(ScheduledExecutorService executor, double lifetimeFraction, double jitterFraction) {
+        if (lifetimeFraction <= 0 || lifetimeFraction >= 1) {
+            throw new IllegalArgumentException("Lifetime fraction must be greater than 0 and lower than 1");
+        }
+        if (jitterFraction < 0 || jitterFraction >= 1) {
+            throw new IllegalArgumentException("Jitter fraction must be in range [0, 1)");
+        }
+        this.executor = executor;
+        this.lifetimeFraction = lifetimeFraction;
+        this.jitterFraction = jitterFraction;
+    }
+
+    public void schedule(Instant issuedAt, MapLinkToken token, Runnable refresh) {
+        if (isNull(token.getExpiration())) {
+            return;
+        }
+        executor.schedule(refresh, delayMillis(issuedAt, token.getExpiration()), MILLISECONDS);
+    }
+
+    long delayMillis(Instant issuedAt, Instant expiration) {
+        long lifetime = Duration.between(issuedAt, expiration).toMillis();
+        double jitter = 1 + jitterFraction * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        long delay = (long) (lifetime * lifetimeFraction * jitter);
+        return max(MINIMUM_DELAY_MILLIS, min(delay, lifetime));
+    }
+}
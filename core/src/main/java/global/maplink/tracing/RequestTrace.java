@@ -0,0 +1,11 @@
+package global.maplink.tracing;
+
+import global.maplink.metrics.RequestPhase;
+
+public interface RequestTrace extends TraceSpan {
+
+    TraceSpan startPhase(RequestPhase phase);
+
+    TraceScope makeCurrent();
+
+}
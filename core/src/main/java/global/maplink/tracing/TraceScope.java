@@ -0,0 +1,11 @@
+package global.maplink.tracing;
+
+public interface TraceScope extends AutoCloseable {
+
+    TraceScope NOOP = () -> {
+    };
+
+    @Override
+    void close();
+
+}
@@ -0,0 +1,13 @@
+package global.maplink.tracing;
+
+public interface TraceSpan {
+
+    TraceSpan NOOP = error -> {
+    };
+
+    default void onResponse(int statusCode) {
+    }
+
+    void end(Throwable error);
+
+}
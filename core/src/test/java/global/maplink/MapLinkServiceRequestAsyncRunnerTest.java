@@ -1,18 +1,53 @@
 package global.maplink;
 
 import global.maplink.credentials.MapLinkCredentials;
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
 import global.maplink.env.Environment;
+import global.maplink.extensions.SdkExtension;
+import global.maplink.extensions.SdkMetricsExtension;
+import global.maplink.extensions.SdkRequestFilterExtension;
+import global.maplink.extensions.SdkTracingExtension;
+import global.maplink.helpers.VirtualThreadHelper;
+import global.maplink.http.HttpAsyncEngine;
 import global.maplink.http.MockHttpAsyncEngine;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import global.maplink.json.JsonMapper;
 import global.maplink.json.MockJsonMapper;
+import global.maplink.metrics.RequestPhase;
 import global.maplink.token.OAuthMapLinkTokenImpl;
+import global.maplink.tracing.RequestTrace;
+import global.maplink.tracing.TraceScope;
+import global.maplink.tracing.TraceSpan;
+import global.maplink.validations.ValidationException;
+import global.maplink.validations.ValidationViolation;
+import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static global.maplink.MapLinkServiceRequestAsyncRunner.proxyFor;
+import static global.maplink.helpers.SchedulerHelper.daemonThreadFactory;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class MapLinkServiceRequestAsyncRunnerTest {
 
@@ -32,6 +67,429 @@ class MapLinkServiceRequestAsyncRunnerTest {
         assertThat(proxy.getValue()).isEqualTo(EXPECTED);
     }
 
+    @Test
+    void shouldRecordMetricsForEachPhase() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(metrics, request -> completedFuture(new Response(202, "text/plain", new byte[0])));
+
+        String result = runner.run(new ConcreteServiceRequest(false)).join();
+
+        assertThat(result).isEqualTo(EXPECTED);
+        assertThat(metrics.events).containsExactly(
+                "started " + ConcreteServiceRequest.PATH,
+                "VALIDATION true",
+                "SERIALIZATION true",
+                "TOKEN true",
+                "FILTERS true",
+                "HTTP true",
+                "status 202",
+                "PARSING true",
+                "finished null"
+        );
+    }
+
+    @Test
+    void shouldRecordFailedValidation() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(metrics, request -> completedFuture(new Response(200, "text/plain", new byte[0])));
+
+        assertThatThrownBy(() -> runner.run(new ConcreteServiceRequest(true)))
+                .isInstanceOf(ValidationException.class);
+        assertThat(metrics.events).containsExactly(
+                "started " + ConcreteServiceRequest.PATH,
+                "VALIDATION false",
+                "finished ValidationException"
+        );
+    }
+
+    @Test
+    void shouldRecordFailedHttpCalls() {
+        RecordingMetrics metrics = new RecordingMetrics();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(metrics, request -> {
+            CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IOException("connection reset"));
+            return failed;
+        });
+
+        assertThatThrownBy(() -> runner.run(new ConcreteServiceRequest(false)).join())
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(metrics.events).endsWith("HTTP false", "finished IOException");
+    }
+
+    @Test
+    void shouldTraceEachPhaseWithRequestContextOnStages() {
+        RecordingTracing tracing = new RecordingTracing();
+        SdkRequestFilterExtension propagation = new SdkRequestFilterExtension() {
+            @Override
+            public <T> Request filter(MapLinkServiceRequest<T> serviceRequest, Request request) {
+                return request.withHeader("traceparent", tracing.current.get());
+            }
+
+            @Override
+            public String getName() {
+                return "Propagation";
+            }
+        };
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(
+                request -> completedFuture(new Response(200, "text/plain", request.getHeader("traceparent").getBytes())),
+                tracing,
+                propagation
+        );
+
+        runner.run(new ConcreteServiceRequest(false)).join();
+
+        assertThat(tracing.events).containsExactly(
+                "trace " + ConcreteServiceRequest.PATH,
+                "start VALIDATION",
+                "end VALIDATION null",
+                "start SERIALIZATION",
+                "end SERIALIZATION null",
+                "start TOKEN",
+                "end TOKEN null",
+                "start FILTERS",
+                "end FILTERS null",
+                "start HTTP",
+                "status HTTP 200",
+                "status " + ConcreteServiceRequest.PATH + " 200",
+                "end HTTP null",
+                "start PARSING",
+                "end PARSING null",
+                "end " + ConcreteServiceRequest.PATH + " null"
+        );
+        assertThat(tracing.propagated).containsOnly(ConcreteServiceRequest.PATH);
+        assertThat(tracing.current.get()).isNull();
+    }
+
+    @Test
+    void shouldFailAndCancelExchangeWhenDeadlineExpires() {
+        List<CompletableFuture<Response>> exchanges = new CopyOnWriteArrayList<>();
+        MapLinkServiceRequestAsyncRunner runner = MapLinkServiceRequestAsyncRunner.createRunner(
+                Environment.loadDefault(),
+                pendingExchanges(exchanges),
+                new MockJsonMapper(),
+                (clientId, secret) -> completedFuture(new OAuthMapLinkTokenImpl("", Instant.MAX)),
+                MapLinkCredentials.ofKey("test", "test"),
+                emptyList(),
+                Duration.ofMillis(50)
+        );
+
+        assertThatThrownBy(() -> runner.run(new ConcreteServiceRequest(false)).get())
+                .hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(exchanges).singleElement().satisfies(exchange -> assertThat(exchange).isCancelled());
+    }
+
+    @Test
+    void shouldPreferCurrentDeadlineOverDefaultTimeout() {
+        List<CompletableFuture<Response>> exchanges = new CopyOnWriteArrayList<>();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(pendingExchanges(exchanges));
+
+        CompletableFuture<String> result = Deadline.runWith(Duration.ofMillis(50), () -> runner.run(new ConcreteServiceRequest(false)));
+
+        assertThatThrownBy(result::get).hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(exchanges).singleElement().satisfies(exchange -> assertThat(exchange).isCancelled());
+    }
+
+    @Test
+    void shouldBindExplicitDeadlineToTheEngine() {
+        List<Deadline> seen = new CopyOnWriteArrayList<>();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(request -> {
+            seen.add(Deadline.current());
+            return completedFuture(new Response(200, "text/plain", new byte[0]));
+        });
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        runner.run(new ConcreteServiceRequest(false), deadline).join();
+
+        assertThat(seen).containsExactly(deadline);
+    }
+
+    @Test
+    void shouldCancelExchangeWhenCallIsCancelled() {
+        List<CompletableFuture<Response>> exchanges = new CopyOnWriteArrayList<>();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(pendingExchanges(exchanges));
+
+        runner.run(new ConcreteServiceRequest(false)).cancel(true);
+
+        assertThat(exchanges).singleElement().satisfies(exchange -> assertThat(exchange).isCancelled());
+    }
+
+    @Test
+    void shouldParseResponsesOnConfiguredExecutor() {
+        ExecutorService parsers = Executors.newSingleThreadExecutor(daemonThreadFactory("parsers"));
+        try {
+            List<String> parsingThreads = new CopyOnWriteArrayList<>();
+            MapLinkServiceRequestAsyncRunner runner = MapLinkServiceRequestAsyncRunner.createRunner(
+                    Environment.loadDefault(),
+                    request -> completedFuture(new Response(200, "text/plain", new byte[0])),
+                    new MockJsonMapper(),
+                    (clientId, secret) -> completedFuture(new OAuthMapLinkTokenImpl("", Instant.MAX)),
+                    MapLinkCredentials.ofKey("test", "test"),
+                    emptyList(),
+                    null,
+                    parsers
+            );
+
+            String result = runner.run(new ConcreteServiceRequest(false) {
+                @Override
+                public Function<Response, String> getResponseParser(JsonMapper mapper) {
+                    return response -> {
+                        parsingThreads.add(Thread.currentThread().getName());
+                        return EXPECTED;
+                    };
+                }
+            }).join();
+
+            assertThat(result).isEqualTo(EXPECTED);
+            assertThat(parsingThreads).singleElement().asString().startsWith("parsers-");
+        } finally {
+            parsers.shutdown();
+        }
+    }
+
+    @Test
+    void shouldCloseResponseWhenParserExecutorRejects() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Response response = new Response(200, "text/plain", new byte[0]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        MapLinkServiceRequestAsyncRunner runner = MapLinkServiceRequestAsyncRunner.createRunner(
+                Environment.loadDefault(),
+                request -> completedFuture(response),
+                new MockJsonMapper(),
+                (clientId, secret) -> completedFuture(new OAuthMapLinkTokenImpl("", Instant.MAX)),
+                MapLinkCredentials.ofKey("test", "test"),
+                emptyList(),
+                null,
+                command -> {
+                    throw new RejectedExecutionException();
+                }
+        );
+
+        assertThatThrownBy(() -> runner.run(new ConcreteServiceRequest(false)).get())
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldKeepBlockingRunnerAsyncOutsideVirtualThreads() {
+        List<CompletableFuture<Response>> exchanges = new CopyOnWriteArrayList<>();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(pendingExchanges(exchanges)).blocking();
+
+        CompletableFuture<String> result = runner.run(new ConcreteServiceRequest(false));
+
+        assertThat(result).isNotDone();
+        assertThat(exchanges).singleElement().satisfies(exchange -> exchange.complete(new Response(200, "text/plain", new byte[0])));
+        assertThat(result.join()).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldBlockOnTheCallingVirtualThread() throws Exception {
+        assumeTrue(VirtualThreadHelper.isSupported());
+        AtomicReference<Thread> exchangeThread = new AtomicReference<>();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(new HttpAsyncEngine() {
+            @Override
+            public CompletableFuture<Response> run(Request request) {
+                throw new AssertionError("Expected a blocking exchange");
+            }
+
+            @Override
+            public Response runBlocking(Request request) {
+                exchangeThread.set(Thread.currentThread());
+                return new Response(200, "text/plain", new byte[0]);
+            }
+        }).blocking();
+
+        ExecutorService callers = VirtualThreadHelper.newVirtualThreadPerTaskExecutor();
+        try {
+            Thread caller = callers.submit(() -> {
+                assertThat(runner.run(new ConcreteServiceRequest(false))).isCompletedWithValue(EXPECTED);
+                return Thread.currentThread();
+            }).get();
+
+            assertThat(exchangeThread.get()).isSameAs(caller);
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    void shouldInterruptBlockingExchangeWhenDeadlineExpires() throws Exception {
+        assumeTrue(VirtualThreadHelper.isSupported());
+        AtomicBoolean interrupted = new AtomicBoolean();
+        MapLinkServiceRequestAsyncRunner runner = MapLinkServiceRequestAsyncRunner.createRunner(
+                Environment.loadDefault(),
+                new HttpAsyncEngine() {
+                    @Override
+                    public CompletableFuture<Response> run(Request request) {
+                        throw new AssertionError("Expected a blocking exchange");
+                    }
+
+                    @Override
+                    public Response runBlocking(Request request) {
+                        try {
+                            Thread.sleep(Duration.ofMinutes(1).toMillis());
+                            return new Response(200, "text/plain", new byte[0]);
+                        } catch (InterruptedException e) {
+                            interrupted.set(true);
+                            throw new CompletionException(e);
+                        }
+                    }
+                },
+                new MockJsonMapper(),
+                (clientId, secret) -> completedFuture(new OAuthMapLinkTokenImpl("", Instant.MAX)),
+                MapLinkCredentials.ofKey("test", "test"),
+                emptyList(),
+                Duration.ofMillis(50)
+        ).blocking();
+
+        ExecutorService callers = VirtualThreadHelper.newVirtualThreadPerTaskExecutor();
+        try {
+            CompletableFuture<String> result = callers.submit(() -> {
+                CompletableFuture<String> call = runner.run(new ConcreteServiceRequest(false));
+                assertThat(Thread.currentThread().isInterrupted()).isFalse();
+                return call;
+            }).get();
+
+            assertThatThrownBy(result::get).hasCauseInstanceOf(DeadlineExceededException.class);
+            assertThat(interrupted).isTrue();
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    private HttpAsyncEngine pendingExchanges(List<CompletableFuture<Response>> exchanges) {
+        return request -> {
+            CompletableFuture<Response> exchange = new CompletableFuture<>();
+            exchanges.add(exchange);
+            return exchange;
+        };
+    }
+
+    private MapLinkServiceRequestAsyncRunner runnerWith(SdkExtension extension, HttpAsyncEngine http) {
+        return runnerWith(http, extension);
+    }
+
+    private MapLinkServiceRequestAsyncRunner runnerWith(HttpAsyncEngine http, SdkExtension... extensions) {
+        return MapLinkServiceRequestAsyncRunner.createRunner(
+                Environment.loadDefault(),
+                http,
+                new MockJsonMapper(),
+                (clientId, secret) -> completedFuture(new OAuthMapLinkTokenImpl("", Instant.MAX)),
+                MapLinkCredentials.ofKey("test", "test"),
+                Arrays.asList(extensions)
+        );
+    }
+
+    @RequiredArgsConstructor
+    public static class ConcreteServiceRequest implements MapLinkServiceRequest<String> {
+        public static final String PATH = "sample/v1/values";
+
+        private final boolean invalid;
+
+        @Override
+        public Request asHttpRequest(Environment environment, JsonMapper mapper) {
+            return Request.get(environment.withService(PATH));
+        }
+
+        @Override
+        public Function<Response, String> getResponseParser(JsonMapper mapper) {
+            return r -> EXPECTED;
+        }
+
+        @Override
+        public List<ValidationViolation> validate() {
+            ValidationViolation violation = () -> "invalid";
+            return invalid ? singletonList(violation) : emptyList();
+        }
+    }
+
+    static class RecordingMetrics implements SdkMetricsExtension {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRequestStarted(String service) {
+            events.add("started " + service);
+        }
+
+        @Override
+        public void onPhase(String service, RequestPhase phase, long durationNanos, boolean success) {
+            events.add(phase + " " + success);
+        }
+
+        @Override
+        public void onResponse(String service, int statusCode) {
+            events.add("status " + statusCode);
+        }
+
+        @Override
+        public void onRequestFinished(String service, long durationNanos, Throwable error) {
+            events.add("finished " + (error == null ? null : error.getClass().getSimpleName()));
+        }
+
+        @Override
+        public String getName() {
+            return "Recording Metrics";
+        }
+    }
+
+    static class RecordingTracing implements SdkTracingExtension {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> propagated = new CopyOnWriteArrayList<>();
+        private final ThreadLocal<String> current = new ThreadLocal<>();
+
+        @Override
+        public RequestTrace startTrace(String service, MapLinkServiceRequest<?> request) {
+            events.add("trace " + service);
+            return new RequestTrace() {
+                @Override
+                public TraceSpan startPhase(RequestPhase phase) {
+                    events.add("start " + phase);
+                    return span(phase.name());
+                }
+
+                @Override
+                public TraceScope makeCurrent() {
+                    String previous = current.get();
+                    current.set(service);
+                    propagated.add(service);
+                    return () -> current.set(previous);
+                }
+
+                @Override
+                public void onResponse(int statusCode) {
+                    events.add("status " + service + " " + statusCode);
+                }
+
+                @Override
+                public void end(Throwable error) {
+                    events.add("end " + service + " " + error);
+                }
+            };
+        }
+
+        private TraceSpan span(String name) {
+            return new TraceSpan() {
+                @Override
+                public void onResponse(int statusCode) {
+                    events.add("status " + name + " " + statusCode);
+                }
+
+                @Override
+                public void end(Throwable error) {
+                    events.add("end " + name + " " + error);
+                }
+            };
+        }
+
+        @Override
+        public String getName() {
+            return "Recording Tracing";
+        }
+    }
+
     interface SampleServiceRequest extends MapLinkServiceRequest<String> {
         default String getValue() {
             return EXPECTED;
@@ -0,0 +1,20 @@
+package global.maplink;
+
+import global.maplink.env.Environment;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import global.maplink.json.JsonMapper;
+
+import java.util.function.Function;
+
+public class MockServiceRequest implements MapLinkServiceRequest<Void> {
+    @Override
+    public Request asHttpRequest(Environment environment, JsonMapper mapper) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Function<Response, Void> getResponseParser(JsonMapper mapper) {
+        throw new UnsupportedOperationException();
+    }
+}
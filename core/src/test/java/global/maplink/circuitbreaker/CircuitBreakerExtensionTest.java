@@ -0,0 +1,97 @@
+package global.maplink.circuitbreaker;
+
+import global.maplink.MockServiceRequest;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerExtensionTest {
+
+    @Test
+    void shouldKeyBreakersByPathConstant() {
+        assertThat(CircuitBreakerExtension.serviceOf(PathRequest.class)).isEqualTo(PathRequest.PATH);
+        assertThat(CircuitBreakerExtension.serviceOf(MockServiceRequest.class)).isEqualTo(MockServiceRequest.class.getName());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldFailFastWhenCircuitIsOpen() {
+        val calls = new AtomicInteger();
+        val extension = new CircuitBreakerExtension(CircuitBreakerConfig.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .build());
+        val request = Request.get(new URL("http://localhost"));
+
+        for (int i = 0; i < 2; i++) {
+            extension.intercept(new PathRequest(), request, r -> {
+                calls.incrementAndGet();
+                return completedFuture(new Response(503, "text/plain", new byte[0]));
+            }).join();
+        }
+
+        val rejected = extension.intercept(new PathRequest(), request, r -> {
+            calls.incrementAndGet();
+            return completedFuture(new Response(200, "text/plain", new byte[0]));
+        });
+
+        assertThat(calls).hasValue(2);
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(extension.breakerFor(PathRequest.PATH).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(extension.breakerFor(MockServiceRequest.class.getName()).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldNotCountCancelledCallsAsFailures() {
+        val extension = new CircuitBreakerExtension(CircuitBreakerConfig.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .build());
+        val request = Request.get(new URL("http://localhost"));
+
+        for (int i = 0; i < 4; i++) {
+            val pending = new CompletableFuture<Response>();
+            extension.intercept(new PathRequest(), request, r -> pending);
+            pending.cancel(true);
+        }
+
+        assertThat(extension.breakerFor(PathRequest.PATH).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldCountConnectionErrorsAsFailures() {
+        val extension = new CircuitBreakerExtension(CircuitBreakerConfig.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .build());
+        val request = Request.get(new URL("http://localhost"));
+
+        for (int i = 0; i < 2; i++) {
+            val failed = new CompletableFuture<Response>();
+            failed.completeExceptionally(new ConnectException());
+            extension.intercept(new PathRequest(), request, r -> failed);
+        }
+
+        assertThat(extension.breakerFor(PathRequest.PATH).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    public static class PathRequest extends MockServiceRequest {
+        public static final String PATH = "sample/v1/calculations";
+    }
+}
@@ -0,0 +1,164 @@
+package global.maplink.circuitbreaker;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+
+import static global.maplink.circuitbreaker.CircuitBreaker.State.CLOSED;
+import static global.maplink.circuitbreaker.CircuitBreaker.State.HALF_OPEN;
+import static global.maplink.circuitbreaker.CircuitBreaker.State.OPEN;
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final CircuitBreakerConfig CONFIG = CircuitBreakerConfig.builder()
+            .slidingWindowSize(4)
+            .minimumCalls(4)
+            .failureRateThreshold(0.5)
+            .openDuration(Duration.ofSeconds(10))
+            .halfOpenProbes(2)
+            .build();
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void shouldOpenWhenFailureRateIsReached() {
+        val breaker = new CircuitBreaker("toll/v1/calculations", CONFIG, clock);
+
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        assertThat(breaker.getState()).isEqualTo(CLOSED);
+
+        breaker.onFailure(breaker.tryAcquire());
+        assertThat(breaker.getState()).isEqualTo(OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    void shouldOnlyConsiderOutcomesInsideWindow() {
+        val breaker = new CircuitBreaker("toll/v1/calculations", CONFIG, clock);
+
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertThat(breaker.getState()).isEqualTo(CLOSED);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbes() {
+        val breaker = openedBreaker();
+        clock.advance(Duration.ofSeconds(10));
+
+        val first = breaker.tryAcquire();
+        assertThat(first).isNotNull();
+        assertThat(breaker.getState()).isEqualTo(HALF_OPEN);
+        val second = breaker.tryAcquire();
+        assertThat(second).isNotNull();
+        assertThat(breaker.tryAcquire()).isNull();
+
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+
+        assertThat(breaker.getState()).isEqualTo(CLOSED);
+        assertThat(breaker.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        val breaker = openedBreaker();
+        clock.advance(Duration.ofSeconds(10));
+
+        breaker.onFailure(breaker.tryAcquire());
+
+        assertThat(breaker.getState()).isEqualTo(OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    void shouldIgnoreLateOutcomesOfCallsAdmittedBeforeOpening() {
+        val breaker = new CircuitBreaker("toll/v1/calculations", CONFIG, clock);
+        val slowCalls = new ArrayList<CircuitBreaker.Permit>();
+        for (int i = 0; i < 3; i++) {
+            slowCalls.add(breaker.tryAcquire());
+        }
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        clock.advance(Duration.ofSeconds(10));
+        val probe = breaker.tryAcquire();
+        assertThat(breaker.getState()).isEqualTo(HALF_OPEN);
+
+        slowCalls.forEach(breaker::onSuccess);
+        assertThat(breaker.getState()).isEqualTo(HALF_OPEN);
+
+        breaker.onFailure(slowCalls.get(0));
+        assertThat(breaker.getState()).isEqualTo(HALF_OPEN);
+
+        breaker.onSuccess(probe);
+        breaker.onSuccess(breaker.tryAcquire());
+        assertThat(breaker.getState()).isEqualTo(CLOSED);
+    }
+
+    @Test
+    void shouldReleaseProbeSlotOfIgnoredCalls() {
+        val breaker = openedBreaker();
+        clock.advance(Duration.ofSeconds(10));
+
+        val first = breaker.tryAcquire();
+        val second = breaker.tryAcquire();
+        assertThat(breaker.tryAcquire()).isNull();
+
+        breaker.onIgnored(first);
+        val third = breaker.tryAcquire();
+        assertThat(third).isNotNull();
+        assertThat(breaker.getState()).isEqualTo(HALF_OPEN);
+
+        breaker.onSuccess(second);
+        breaker.onSuccess(third);
+        assertThat(breaker.getState()).isEqualTo(CLOSED);
+    }
+
+    private CircuitBreaker openedBreaker() {
+        val breaker = new CircuitBreaker("toll/v1/calculations", CONFIG, clock);
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        assertThat(breaker.getState()).isEqualTo(OPEN);
+        return breaker;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package global.maplink.concurrency;
+
+import global.maplink.MockServiceRequest;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitExtensionTest {
+
+    @Test
+    void shouldKeepOneLimiterPerRequestType() {
+        val extension = new ConcurrencyLimitExtension();
+
+        assertThat(extension.limiterFor(FirstRequest.class))
+                .isSameAs(extension.limiterFor(FirstRequest.class))
+                .isNotSameAs(extension.limiterFor(SecondRequest.class));
+    }
+
+    @Test
+    void shouldUseConfiguredLimiterForRequestType() {
+        val limiter = new FixedConcurrencyLimiter(3);
+        val extension = new ConcurrencyLimitExtension().with(FirstRequest.class, limiter);
+
+        assertThat(extension.limiterFor(FirstRequest.class)).isSameAs(limiter);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldHoldRequestsAboveTheLimit() {
+        val limiter = new FixedConcurrencyLimiter(1);
+        val extension = new ConcurrencyLimitExtension().with(FirstRequest.class, limiter);
+        val pending = new CompletableFuture<Response>();
+        val request = Request.get(new URL("http://localhost"));
+
+        val first = extension.intercept(new FirstRequest(), request, r -> pending);
+        val second = extension.intercept(new FirstRequest(), request, r -> completedFuture(response(200)));
+
+        assertThat(second).isNotDone();
+        pending.complete(response(200));
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldReduceLimitWhenServerThrottles() {
+        val limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.5);
+        val extension = new ConcurrencyLimitExtension().with(FirstRequest.class, limiter);
+
+        extension.intercept(new FirstRequest(), Request.get(new URL("http://localhost")), r -> completedFuture(response(429)));
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldKeepLimitWhenExchangeIsCancelled() {
+        val limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.5);
+        val extension = new ConcurrencyLimitExtension().with(FirstRequest.class, limiter);
+        val pending = new CompletableFuture<Response>();
+
+        extension.intercept(new FirstRequest(), Request.get(new URL("http://localhost")), r -> pending);
+        pending.cancel(true);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static Response response(int status) {
+        return new Response(status, "application/json", new byte[0]);
+    }
+
+    private static class FirstRequest extends MockServiceRequest {
+    }
+
+    private static class SecondRequest extends FirstRequest {
+    }
+}
@@ -0,0 +1,109 @@
+package global.maplink.concurrency;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    void shouldQueueAcquisitionsAboveTheLimitUntilAPermitIsReleased() {
+        val limiter = new FixedConcurrencyLimiter(1);
+        val first = limiter.acquire();
+        val second = limiter.acquire();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        assertThat(limiter.getQueued()).isEqualTo(1);
+
+        first.join().success();
+
+        assertThat(second).isCompleted();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueued()).isZero();
+    }
+
+    @Test
+    void shouldIgnoreDuplicatedReleases() {
+        val limiter = new FixedConcurrencyLimiter(2);
+        val permit = limiter.acquire().join();
+        limiter.acquire();
+
+        permit.success();
+        permit.dropped();
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWhenQueueIsFull() {
+        val limiter = new FixedConcurrencyLimiter(1, 1);
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(() -> limiter.acquire().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+    }
+
+    @Test
+    void shouldSkipCancelledWaiters() {
+        val limiter = new FixedConcurrencyLimiter(1);
+        val first = limiter.acquire();
+        val cancelled = limiter.acquire();
+        val third = limiter.acquire();
+
+        cancelled.cancel(false);
+        first.join().success();
+
+        assertThat(third).isCompleted();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void aimdShouldGrowOnSuccessAndBackOffOnDrop() {
+        val limiter = new AimdConcurrencyLimiter(4, 1, 10, 0.5);
+        val permits = new ConcurrencyLimiter.Permit[]{
+                limiter.acquire().join(),
+                limiter.acquire().join(),
+                limiter.acquire().join()
+        };
+
+        permits[0].success();
+        assertThat(limiter.getLimit()).isEqualTo(5);
+
+        permits[1].dropped();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        permits[2].ignore();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void aimdShouldNotGrowWhenLimitIsNotUsed() {
+        val limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.5);
+        limiter.acquire().join().success();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void gradientShouldShrinkWhenLatencyGrows() {
+        val limiter = new GradientConcurrencyLimiter(20, 1, 100, 1.0, 1000);
+
+        val baseline = limiter.nextLimit(20, 10_000_000, 20, false);
+        val degraded = limiter.nextLimit(baseline, 40_000_000, 20, false);
+
+        assertThat(baseline).isGreaterThanOrEqualTo(20);
+        assertThat(degraded).isLessThan(baseline);
+    }
+
+    @Test
+    void gradientShouldBackOffOnDrop() {
+        val limiter = new GradientConcurrencyLimiter(20, 1, 100, 0.2, 1000);
+        assertThat(limiter.nextLimit(20, 10_000_000, 20, true)).isEqualTo(18);
+    }
+}
@@ -0,0 +1,77 @@
+package global.maplink.domain;
+
+import ch.hsr.geohash.GeoHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeohashCodecTest {
+
+    @Test
+    void shouldEncodeSameAsReferenceImplementation() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            double latitude = (random.nextDouble() - 0.5) * 180;
+            double longitude = (random.nextDouble() - 0.5) * 360;
+            int precision = random.nextInt(GeohashCodec.MAX_PRECISION + 1);
+
+            assertThat(GeohashCodec.encode(latitude, longitude, precision))
+                    .isEqualTo(GeoHash.geoHashStringWithCharacterPrecision(latitude, longitude, precision));
+        }
+    }
+
+    @Test
+    void shouldEncodeCellBoundariesSameAsReferenceImplementation() {
+        double[] latitudes = {-90, -45, 0, 45, 90, -22.5, 11.25, Math.nextDown(0.0), Math.nextUp(-45.0)};
+        double[] longitudes = {-180, -90, 0, 90, 180, -22.5, 11.25, Math.nextDown(90.0), Math.nextUp(-180.0)};
+        for (double latitude : latitudes) {
+            for (double longitude : longitudes) {
+                for (int precision = 0; precision <= GeohashCodec.MAX_PRECISION; precision++) {
+                    assertThat(GeohashCodec.encode(latitude, longitude, precision))
+                            .isEqualTo(GeoHash.geoHashStringWithCharacterPrecision(latitude, longitude, precision));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldDecodeSameAsReferenceImplementation() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            String geohash = GeoHash.geoHashStringWithCharacterPrecision(
+                    (random.nextDouble() - 0.5) * 180,
+                    (random.nextDouble() - 0.5) * 360,
+                    1 + random.nextInt(GeohashCodec.MAX_PRECISION)
+            );
+            MaplinkPoint decoded = GeohashCodec.decode(geohash);
+
+            assertThat(decoded.getLatitude()).isEqualTo(GeoHash.fromGeohashString(geohash).getBoundingBoxCenter().getLatitude());
+            assertThat(decoded.getLongitude()).isEqualTo(GeoHash.fromGeohashString(geohash).getBoundingBoxCenter().getLongitude());
+        }
+    }
+
+    @Test
+    void shouldEncodeAndDecodeBatches() {
+        double[] coordinates = {-23.56649, -46.6538, -23.5658, -46.65313};
+
+        assertThat(GeohashCodec.encode(coordinates, 9)).containsExactly("6gycfmgep", "6gycfmupr");
+        assertThat(GeohashCodec.decode(Arrays.asList("6gycfmgep", "6gycfmupr")))
+                .containsExactly(
+                        GeohashCodec.decode("6gycfmgep").getLatitude(),
+                        GeohashCodec.decode("6gycfmgep").getLongitude(),
+                        GeohashCodec.decode("6gycfmupr").getLatitude(),
+                        GeohashCodec.decode("6gycfmupr").getLongitude()
+                );
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        assertThatThrownBy(() -> GeohashCodec.encode(91, 0, 9)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeohashCodec.encode(0, 0, 13)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeohashCodec.decode("6gyA")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
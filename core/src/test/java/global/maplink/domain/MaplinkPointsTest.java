@@ -156,6 +156,82 @@ class MaplinkPointsTest {
         assertThat(points.get(3)).isNull();
     }
 
+    @Test
+    void shouldDeserializeFromPolylineSliceOfCharBuffer() {
+        char[] buffer = ("\"polyline\":\"" + SAMPLE_POLYLINE + "\"").toCharArray();
+        MaplinkPoints points = MaplinkPoints.fromPolyline(buffer, 12, SAMPLE_POLYLINE.length());
+
+        assertThatMatchWithSample(points);
+        assertThat(points.toArray()).hasSize(SAMPLE_POINTS.length * 2);
+    }
+
+    @Test
+    void shouldKeepTruncatedPointWhenPolylineEndsMidNumber() {
+        String truncated = SAMPLE_POLYLINE.substring(0, SAMPLE_POLYLINE.length() - 1);
+
+        assertThat(MaplinkPoints.fromPolyline(truncated)).hasSize(SAMPLE_POINTS.length);
+        assertThat(MaplinkPoints.fromPolyline("")).isEmpty();
+    }
+
+    @Test
+    void shouldEncodeReferencePolylineWithDefaultPrecision() {
+        MaplinkPoints points = MaplinkPoints.from(38.5, -120.2, 40.7, -120.95, 43.252, -126.453);
+
+        assertThat(points.toPolyline()).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+        assertThat(points.toPolyline(PolylinePrecision.E5)).isEqualTo(points.toPolyline());
+    }
+
+    @Test
+    void shouldRoundTripEveryPolylinePrecision() {
+        MaplinkPoints points = MaplinkPoints.from(
+                -23.5664912, -46.6538047,
+                -89.9999999, -179.9999999,
+                89.9999999, 179.9999999
+        );
+
+        for (PolylinePrecision precision : PolylinePrecision.values()) {
+            String polyline = points.toPolyline(precision);
+            assertThat(polyline).hasSize(points.polylineLength(precision));
+
+            MaplinkPoints decoded = MaplinkPoints.fromPolyline(polyline, precision);
+            range(0, points.size()).forEach(i -> {
+                assertThat(decoded.getLatitude(i)).isCloseTo(points.getLatitude(i), Offset.offset(1 / precision.getFactor()));
+                assertThat(decoded.getLongitude(i)).isCloseTo(points.getLongitude(i), Offset.offset(1 / precision.getFactor()));
+            });
+        }
+        assertThat(MaplinkPoints.fromPolyline(points.toPolyline(PolylinePrecision.E7), PolylinePrecision.E7)).isEqualTo(points);
+    }
+
+    @Test
+    void shouldExposePrimitiveCoordinates() {
+        MaplinkPoints points = MaplinkPoints.from(SAMPLE_POINTS);
+
+        range(0, SAMPLE_POINTS.length).forEach(i -> {
+            assertThat(points.getLatitude(i)).isEqualTo(SAMPLE_POINTS[i][0]);
+            assertThat(points.getLongitude(i)).isEqualTo(SAMPLE_POINTS[i][1]);
+        });
+        assertThat(points.toArray()).hasSize(SAMPLE_POINTS.length * 2);
+    }
+
+    @Test
+    void shouldBeEqualRegardlessOfHowItWasBuilt() {
+        MaplinkPoint[] samplePoints = Arrays.stream(SAMPLE_POINTS).map(MaplinkPoint::from).toArray(MaplinkPoint[]::new);
+        MaplinkPoints fromPoints = new MaplinkPoints(samplePoints);
+        MaplinkPoints fromArray = MaplinkPoints.from(SAMPLE_POINTS);
+
+        assertThat(fromPoints).isEqualTo(fromArray);
+        assertThat(fromPoints.hashCode()).isEqualTo(fromArray.hashCode());
+        assertThat(MaplinkPoints.fromPolyline(SAMPLE_POLYLINE)).isEqualTo(fromArray);
+    }
+
+    @Test
+    void toArrayShouldNotExposeInternalState() {
+        MaplinkPoints points = MaplinkPoints.from(SAMPLE_POINTS);
+        points.toArray()[0] = 0;
+
+        assertThat(points.first()).isEqualTo(MaplinkPoint.from(SAMPLE_POINTS[0]));
+    }
+
     private double[][] randSampleLine(int lenght) {
         return new Random()
                 .ints(lenght, 0, SAMPLE_POINTS.length)
@@ -35,6 +35,18 @@ class PointsModeTest {
         assertThat(PointsMode.current()).isEqualTo(PointsMode.loadDefault());
     }
 
+    @Test
+    void nestedRunWithShouldRestoreOuterMode() {
+        PointsMode inner = PointsMode.runWith(GEOHASH, () -> {
+            PointsMode nested = PointsMode.runWith(POLYLINE, PointsMode::current);
+            assertThat(PointsMode.current()).isEqualTo(GEOHASH);
+            return nested;
+        });
+
+        assertThat(inner).isEqualTo(POLYLINE);
+        assertThat(PointsMode.current()).isEqualTo(PointsMode.loadDefault());
+    }
+
     @Test
     void externalSupplierShouldOverrideDefaultAndSDK() {
         assertThat(PointsMode.current()).isEqualTo(PointsMode.loadDefault());
@@ -1,9 +1,12 @@
 package global.maplink.helpers;
 
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 import static global.maplink.helpers.FutureHelper.await;
@@ -31,6 +34,34 @@ public class FutureHelperTest {
         assertThatThrownBy(() -> await(future)).isInstanceOf(SampleUncheckedException.class);
     }
 
+    @Test
+    public void mustCancelAndFailWhenTimeoutIsReached() {
+        val future = new CompletableFuture<Boolean>();
+
+        assertThatThrownBy(() -> await(future, Duration.ofMillis(10)))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(future).isCancelled();
+    }
+
+    @Test
+    public void mustHonourCurrentDeadline() {
+        val future = new CompletableFuture<Boolean>();
+
+        assertThatThrownBy(() -> Deadline.runWith(Duration.ofMillis(10), () -> await(future)))
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(future).isCancelled();
+    }
+
+    @Test
+    public void mustCancelAndKeepInterruptionWhenInterrupted() {
+        val future = new CompletableFuture<Boolean>();
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> await(future)).hasCauseInstanceOf(InterruptedException.class);
+        assertThat(future).isCancelled();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
     @SneakyThrows
     private void sleep(int time) {
         Thread.sleep(time);
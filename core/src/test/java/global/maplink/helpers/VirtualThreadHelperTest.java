@@ -0,0 +1,39 @@
+package global.maplink.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadHelperTest {
+
+    @Test
+    void mustNotReportPlatformThreadsAsVirtual() {
+        assertThat(VirtualThreadHelper.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    void mustRunTasksOnVirtualThreadsWhenSupported() throws Exception {
+        assumeTrue(VirtualThreadHelper.isSupported());
+        ExecutorService executor = VirtualThreadHelper.newVirtualThreadPerTaskExecutor();
+        try {
+            boolean virtual = executor.submit(() -> VirtualThreadHelper.isVirtual(Thread.currentThread())).get();
+
+            assertThat(virtual).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void mustRejectExecutorWhenUnsupported() {
+        assumeFalse(VirtualThreadHelper.isSupported());
+
+        assertThatThrownBy(VirtualThreadHelper::newVirtualThreadPerTaskExecutor)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
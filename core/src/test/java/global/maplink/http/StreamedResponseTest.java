@@ -0,0 +1,58 @@
+package global.maplink.http;
+
+import global.maplink.http.exceptions.MapLinkHttpException;
+import global.maplink.json.JsonMapper;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StreamedResponseTest {
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String SAMPLE_JSON = "{\"name\":\"test\"}";
+
+    @Test
+    public void mustParseBodyFromStream() {
+        val mapper = mock(JsonMapper.class);
+        when(mapper.fromJson(any(InputStream.class), eq(String.class))).thenReturn("parsed");
+        val response = new StreamedResponse(200, APPLICATION_JSON, streamOf(SAMPLE_JSON));
+
+        assertThat(response.parseBodyObject(mapper, String.class)).isEqualTo("parsed");
+    }
+
+    @Test
+    public void mustFailWhenBodyIsReadTwice() {
+        val mapper = mock(JsonMapper.class);
+        val response = new StreamedResponse(200, APPLICATION_JSON, streamOf(SAMPLE_JSON));
+        response.parseBodyObject(mapper, String.class);
+
+        assertThatThrownBy(() -> response.parseBodyObject(mapper, String.class))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void mustKeepErrorBodyReadableAfterThrowing() {
+        val mapper = mock(JsonMapper.class);
+        val body = SAMPLE_JSON.getBytes(UTF_8);
+        when(mapper.fromJson(body, String.class)).thenReturn("error");
+        val response = new StreamedResponse(500, APPLICATION_JSON, streamOf(SAMPLE_JSON));
+
+        assertThatThrownBy(response::throwIfIsError)
+                .isInstanceOf(MapLinkHttpException.class)
+                .hasMessageContaining(SAMPLE_JSON);
+        assertThat(response.parseBodyObject(mapper, String.class, false)).isEqualTo("error");
+    }
+
+    private InputStream streamOf(String value) {
+        return new ByteArrayInputStream(value.getBytes(UTF_8));
+    }
+}
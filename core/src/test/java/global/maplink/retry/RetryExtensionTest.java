@@ -0,0 +1,182 @@
+package global.maplink.retry;
+
+import global.maplink.MockServiceRequest;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import global.maplink.http.request.RequestBody;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryExtensionTest {
+
+    private static final RetryPolicy FAST_POLICY = RetryPolicy.builder()
+            .baseDelay(Duration.ofMillis(1))
+            .maxDelay(Duration.ofMillis(5))
+            .build();
+
+    @Test
+    @SneakyThrows
+    void shouldRetryGetRequestsOnServerErrors() {
+        val calls = new AtomicInteger();
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget());
+
+        val response = extension.intercept(new MockServiceRequest(), Request.get(new URL("http://localhost")), r ->
+                completedFuture(response(calls.incrementAndGet() < 3 ? 503 : 200))
+        ).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldRetryOnIOFailures() {
+        val calls = new AtomicInteger();
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget());
+
+        val response = extension.intercept(new MockServiceRequest(), Request.get(new URL("http://localhost")), r -> {
+            if (calls.incrementAndGet() == 1) {
+                val failed = new CompletableFuture<Response>();
+                failed.completeExceptionally(new IOException("connection reset"));
+                return failed;
+            }
+            return completedFuture(response(200));
+        }).join();
+
+        assertThat(response.isOk()).isTrue();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldGiveUpAfterMaxAttempts() {
+        val calls = new AtomicInteger();
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget());
+
+        val response = extension.intercept(new MockServiceRequest(), Request.get(new URL("http://localhost")), r -> {
+            calls.incrementAndGet();
+            return completedFuture(response(500));
+        }).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(500);
+        assertThat(calls).hasValue(FAST_POLICY.getMaxAttempts());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldNotRetryClientErrors() {
+        val calls = new AtomicInteger();
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget());
+
+        extension.intercept(new MockServiceRequest(), Request.get(new URL("http://localhost")), r -> {
+            calls.incrementAndGet();
+            return completedFuture(response(400));
+        }).join();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldRetryPostOnlyWhenEnabledForRequestType() {
+        val calls = new AtomicInteger();
+        val post = Request.post(new URL("http://localhost"), RequestBody.Json.of("{}"));
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget());
+
+        extension.intercept(new MockServiceRequest(), post, r -> {
+            calls.incrementAndGet();
+            return completedFuture(response(503));
+        }).join();
+        assertThat(calls).hasValue(1);
+
+        extension.retrying(MockServiceRequest.class);
+        calls.set(0);
+        extension.intercept(new MockServiceRequest(), post, r -> {
+            calls.incrementAndGet();
+            return completedFuture(response(503));
+        }).join();
+        assertThat(calls).hasValue(FAST_POLICY.getMaxAttempts());
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        val calls = new AtomicInteger();
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget(0, 1));
+
+        extension.intercept(new MockServiceRequest(), Request.get(new URL("http://localhost")), r -> {
+            calls.incrementAndGet();
+            return completedFuture(response(503));
+        }).join();
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldNotWaitForRetryAfterAboveLimit() {
+        val calls = new AtomicInteger();
+        val extension = new RetryExtension(FAST_POLICY, new RetryBudget());
+
+        val response = extension.intercept(new MockServiceRequest(), Request.get(new URL("http://localhost")), r -> {
+            calls.incrementAndGet();
+            return completedFuture(new Response(429, "text/plain", new byte[0], Collections.singletonMap("Retry-After", "3600")));
+        }).join();
+
+        assertThat(response.getStatusCode()).isEqualTo(429);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldParseRetryAfterInSecondsAndHttpDate() {
+        val now = Instant.parse("2015-10-21T07:28:00Z");
+
+        assertThat(RetryExtension.parseRetryAfter("120", now)).contains(Duration.ofSeconds(120));
+        assertThat(RetryExtension.parseRetryAfter("Wed, 21 Oct 2015 07:29:00 GMT", now)).contains(Duration.ofMinutes(1));
+        assertThat(RetryExtension.parseRetryAfter("Wed, 21 Oct 2015 07:27:00 GMT", now)).contains(Duration.ZERO);
+        assertThat(RetryExtension.parseRetryAfter("soon", now)).isEmpty();
+    }
+
+    @Test
+    void budgetShouldBeReplenishedByRequests() {
+        val budget = new RetryBudget(0.5, 1);
+
+        assertThat(budget.tryAcquireRetry()).isTrue();
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        budget.onRequest();
+        budget.onRequest();
+
+        assertThat(budget.tryAcquireRetry()).isTrue();
+    }
+
+    @Test
+    void backoffShouldBeBoundedByMaxDelay() {
+        val policy = RetryPolicy.builder()
+                .baseDelay(Duration.ofMillis(100))
+                .maxDelay(Duration.ofMillis(300))
+                .build();
+
+        for (int attempt = 1; attempt < 40; attempt++) {
+            assertThat(policy.backoffMillis(attempt)).isBetween(0L, 300L);
+        }
+        assertThatThrownBy(() -> new RetryBudget(2, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Response response(int status) {
+        return new Response(status, "application/json", new byte[0]);
+    }
+}
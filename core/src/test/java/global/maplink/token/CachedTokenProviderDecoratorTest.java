@@ -2,13 +2,19 @@ package global.maplink.token;
 
 import lombok.val;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static java.lang.Thread.sleep;
 import static java.time.Instant.now;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -54,4 +60,88 @@ public class CachedTokenProviderDecoratorTest {
         assertThat(first).isNotSameAs(second);
         verify(delegate, times(2)).getToken(CLIENT_ID, CLIENT_SECRET);
     }
+
+    @Test
+    void mustShareInFlightRequestBetweenConcurrentCallers() {
+        val delegate = mock(TokenProvider.class);
+        val pending = new CompletableFuture<MapLinkToken>();
+        when(delegate.getToken(CLIENT_ID, CLIENT_SECRET)).thenReturn(pending);
+
+        val cached = new CachedTokenProviderDecorator(delegate);
+        val requests = IntStream.range(0, 10)
+                .mapToObj(i -> cached.getToken(CLIENT_ID, CLIENT_SECRET))
+                .collect(toList());
+
+        val token = new OAuthMapLinkTokenImpl("Token", now().plusSeconds(60));
+        pending.complete(token);
+
+        assertThat(requests).allSatisfy(r -> assertThat(r).isCompletedWithValue(token));
+        verify(delegate, times(1)).getToken(CLIENT_ID, CLIENT_SECRET);
+    }
+
+    @Test
+    void mustReuseTokenRefreshedAfterCallerReadTheCache() {
+        val delegate = mock(TokenProvider.class);
+        val pending = new CompletableFuture<MapLinkToken>();
+        val fresh = new OAuthMapLinkTokenImpl("Token", now().plusSeconds(60));
+        val checks = new AtomicInteger();
+        val stale = mock(MapLinkToken.class);
+        // The second caller sees the stale token while the first refresh finishes
+        when(stale.isAboutToExpireIn(anyInt())).thenAnswer(i -> {
+            if (checks.incrementAndGet() == 2) {
+                pending.complete(fresh);
+            }
+            return true;
+        });
+        when(delegate.getToken(CLIENT_ID, CLIENT_SECRET))
+                .thenReturn(completedFuture(stale))
+                .thenReturn(pending)
+                .thenReturn(completedFuture(new OAuthMapLinkTokenImpl("Other", now().plusSeconds(60))));
+
+        val cached = new CachedTokenProviderDecorator(delegate);
+        cached.getToken(CLIENT_ID, CLIENT_SECRET);
+        val first = cached.getToken(CLIENT_ID, CLIENT_SECRET);
+        val second = cached.getToken(CLIENT_ID, CLIENT_SECRET);
+
+        assertThat(first).isCompletedWithValue(fresh);
+        assertThat(second).isCompletedWithValue(fresh);
+        verify(delegate, times(2)).getToken(CLIENT_ID, CLIENT_SECRET);
+    }
+
+    @Test
+    void mustRequestAgainAfterInFlightFailure() {
+        val delegate = mock(TokenProvider.class);
+        val failed = new CompletableFuture<MapLinkToken>();
+        failed.completeExceptionally(new IllegalStateException());
+        when(delegate.getToken(CLIENT_ID, CLIENT_SECRET))
+                .thenReturn(failed)
+                .thenReturn(completedFuture(new OAuthMapLinkTokenImpl("Token", now().plusSeconds(60))));
+
+        val cached = new CachedTokenProviderDecorator(delegate);
+
+        assertThat(cached.getToken(CLIENT_ID, CLIENT_SECRET)).isCompletedExceptionally();
+        assertThat(cached.getToken(CLIENT_ID, CLIENT_SECRET)).isCompleted();
+        verify(delegate, times(2)).getToken(CLIENT_ID, CLIENT_SECRET);
+    }
+
+    @Test
+    void mustRenewUsedTokensAheadOfExpiration() {
+        val delegate = mock(TokenProvider.class);
+        when(delegate.getToken(CLIENT_ID, CLIENT_SECRET))
+                .thenAnswer(i -> completedFuture(new OAuthMapLinkTokenImpl("Token", now().plusSeconds(3600))));
+        val executor = mock(ScheduledExecutorService.class);
+        val cached = new CachedTokenProviderDecorator(delegate, new TokenRefreshScheduler(executor, 0.5, 0));
+
+        cached.getToken(CLIENT_ID, CLIENT_SECRET);
+        val firstRenewal = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(firstRenewal.capture(), anyLong(), eq(MILLISECONDS));
+
+        firstRenewal.getValue().run();
+        verify(delegate, times(2)).getToken(CLIENT_ID, CLIENT_SECRET);
+
+        val secondRenewal = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(2)).schedule(secondRenewal.capture(), anyLong(), eq(MILLISECONDS));
+        secondRenewal.getValue().run();
+        verify(delegate, times(2)).getToken(CLIENT_ID, CLIENT_SECRET);
+    }
 }
@@ -0,0 +1,79 @@
+package global.maplink.token;
+
+import global.maplink.http.request.Request;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TokenRefreshSchedulerTest {
+
+    private static final Instant ISSUED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void mustScheduleAtLifetimeFractionWithoutJitter() {
+        val scheduler = new TokenRefreshScheduler(mock(ScheduledExecutorService.class), 0.5, 0);
+
+        assertThat(scheduler.delayMillis(ISSUED_AT, ISSUED_AT.plusSeconds(3600))).isEqualTo(1_800_000);
+    }
+
+    @Test
+    void mustKeepJitteredDelayInsideConfiguredRange() {
+        val scheduler = new TokenRefreshScheduler(mock(ScheduledExecutorService.class), 0.5, 0.2);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(scheduler.delayMillis(ISSUED_AT, ISSUED_AT.plusSeconds(3600)))
+                    .isBetween(1_440_000L, 2_160_000L);
+        }
+    }
+
+    @Test
+    void mustNeverScheduleBelowMinimumDelay() {
+        val scheduler = new TokenRefreshScheduler(mock(ScheduledExecutorService.class), 0.5, 0);
+
+        assertThat(scheduler.delayMillis(ISSUED_AT, ISSUED_AT.minusSeconds(10))).isEqualTo(1000);
+    }
+
+    @Test
+    void mustNotScheduleTokensWithoutExpiration() {
+        val executor = mock(ScheduledExecutorService.class);
+        val scheduler = new TokenRefreshScheduler(executor, 0.5, 0);
+        MapLinkToken token = new MapLinkToken() {
+            @Override
+            public boolean isExpired() {
+                return false;
+            }
+
+            @Override
+            public boolean isAboutToExpireIn(int seconds) {
+                return false;
+            }
+
+            @Override
+            public Request applyOn(Request request) {
+                return request;
+            }
+        };
+
+        scheduler.schedule(ISSUED_AT, token, () -> {
+        });
+
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void mustRejectInvalidFractions() {
+        val executor = mock(ScheduledExecutorService.class);
+
+        assertThatThrownBy(() -> new TokenRefreshScheduler(executor, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenRefreshScheduler(executor, 0.5, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
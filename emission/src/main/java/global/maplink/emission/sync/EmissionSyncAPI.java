@@ -1,5 +1,6 @@
 package global.maplink.emission.sync;
 
+import global.maplink.MapLinkSDK;
 import global.maplink.emission.async.EmissionAsyncAPI;
 import global.maplink.emission.schema.EmissionRequest;
 import global.maplink.emission.schema.EmissionResponse;
@@ -8,6 +9,9 @@ import global.maplink.env.Environment;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
+
+import static global.maplink.MapLinkServiceRequestAsyncRunner.blockingProxyFor;
 
 public interface EmissionSyncAPI {
 
@@ -34,10 +38,15 @@ public interface EmissionSyncAPI {
     EmissionResponse calculate(EmissionRequest request);
 
     static EmissionSyncAPI getInstance() {
-        return new EmissionSyncApiImpl(EmissionAsyncAPI.getInstance());
+        return getInstance(null);
     }
 
     static EmissionSyncAPI getInstance(Environment environment) {
-        return  new EmissionSyncApiImpl(EmissionAsyncAPI.getInstance(environment));
+        MapLinkSDK sdk = MapLinkSDK.getInstance();
+        return new EmissionSyncApiImpl(blockingProxyFor(
+                EmissionAsyncAPI.class,
+                Optional.ofNullable(environment).orElse(sdk.getEnvironment()),
+                sdk
+        ));
     }
 }
@@ -1,19 +1,29 @@
 package global.maplink.freight.sync;
 
+import global.maplink.MapLinkSDK;
 import global.maplink.env.Environment;
 import global.maplink.freight.async.FreightAsyncAPI;
 import global.maplink.freight.schema.FreightCalculationRequest;
 import global.maplink.freight.schema.FreightCalculationResponse;
 
+import java.util.Optional;
+
+import static global.maplink.MapLinkServiceRequestAsyncRunner.blockingProxyFor;
+
 public interface FreightSyncAPI {
 
     FreightCalculationResponse calculate(FreightCalculationRequest request);
 
     static FreightSyncAPI getInstance() {
-        return new FreightSyncApiImpl(FreightAsyncAPI.getInstance());
+        return getInstance(null);
     }
 
     static FreightSyncAPI getInstance(Environment environment) {
-        return new FreightSyncApiImpl(FreightAsyncAPI.getInstance(environment));
+        MapLinkSDK sdk = MapLinkSDK.getInstance();
+        return new FreightSyncApiImpl(blockingProxyFor(
+                FreightAsyncAPI.class,
+                Optional.ofNullable(environment).orElse(sdk.getEnvironment()),
+                sdk
+        ));
     }
 }
@@ -5,4 +5,19 @@ import java.util.List;
 public interface GeocodeSplittableRequest extends GeocodeServiceRequest{
 
     List<? extends GeocodeSplittableRequest> split();
+
+    // Chunks are limited to maxChunkSize() even when a greater size is asked.
+    // Requests not splittable by size keep the chunks of split()
+    default List<? extends GeocodeSplittableRequest> split(int chunkSize) {
+        return split();
+    }
+
+    // Requests without a known number of entries count as a single one
+    default int size() {
+        return 1;
+    }
+
+    default int maxChunkSize() {
+        return Integer.MAX_VALUE;
+    }
 }
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.stream.IntStream;
 
 import static global.maplink.http.request.Request.post;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -31,17 +32,33 @@ public class ReverseRequest implements GeocodeSplittableRequest {
 
     @Override
     public List<ReverseRequest> split() {
-        if (entries.size() < ENTRY_LIMIT) {
+        return split(ENTRY_LIMIT);
+    }
+
+    @Override
+    public List<ReverseRequest> split(int chunkSize) {
+        val size = max(1, min(chunkSize, ENTRY_LIMIT));
+        if (entries.size() <= size) {
             return singletonList(this);
         }
-        val parts = (entries.size() / ENTRY_LIMIT) + 1;
+        val parts = (entries.size() + size - 1) / size;
         return IntStream.range(0, parts)
-                .map(i -> i * ENTRY_LIMIT)
-                .mapToObj(i -> entries.subList(i, min(i + 200, entries.size())))
+                .map(i -> i * size)
+                .mapToObj(i -> entries.subList(i, min(i + size, entries.size())))
                 .map(ReverseRequest::new)
                 .collect(toList());
     }
 
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public int maxChunkSize() {
+        return ENTRY_LIMIT;
+    }
+
     public static Entry entry(double lat, double lon) {
         return Entry.builder()
                 .lat(BigDecimal.valueOf(lat))
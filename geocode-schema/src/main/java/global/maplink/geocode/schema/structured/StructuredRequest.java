@@ -8,17 +8,26 @@ import global.maplink.http.request.RequestBody;
 import global.maplink.json.JsonMapper;
 import lombok.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
 import static global.maplink.http.request.Request.post;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
-import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 public interface StructuredRequest extends GeocodeSplittableRequest {
 
+    @Override
+    List<? extends StructuredRequest> split();
+
+    @Override
+    default List<? extends StructuredRequest> split(int chunkSize) {
+        return split();
+    }
+
     static Single.SingleBuilder of(String id) {
         return Single.builder().id(id);
     }
@@ -82,6 +91,21 @@ public interface StructuredRequest extends GeocodeSplittableRequest {
             return singletonList(this);
         }
 
+        @Override
+        public List<Single> split(int chunkSize) {
+            return singletonList(this);
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public int maxChunkSize() {
+            return 1;
+        }
+
         @Override
         public Request asHttpRequest(Environment environment, JsonMapper mapper) {
             return post(
@@ -105,19 +129,39 @@ public interface StructuredRequest extends GeocodeSplittableRequest {
 
         @Override
         public List<Multi> split() {
-            if (requests.length < REQ_LIMIT) {
+            return split(REQ_LIMIT);
+        }
+
+        @Override
+        public List<Multi> split(int chunkSize) {
+            val size = max(1, min(chunkSize, REQ_LIMIT));
+            if (requests.length <= size) {
                 return singletonList(this);
             }
-            val parts = (requests.length / REQ_LIMIT) + 1;
-            val reqList = asList(requests);
+            val parts = (requests.length + size - 1) / size;
             return IntStream.range(0, parts)
-                    .map(i -> i * REQ_LIMIT)
-                    .mapToObj(i -> reqList.subList(i, min(i + 200, reqList.size())))
-                    .map(l -> l.toArray(new Single[0]))
-                    .map(Multi::new)
+                    .map(i -> i * size)
+                    .mapToObj(i -> Arrays.copyOfRange(requests, i, min(i + size, requests.length)))
+                    .map(this::chunkOf)
                     .collect(toList());
         }
 
+        @Override
+        public int size() {
+            return requests.length;
+        }
+
+        @Override
+        public int maxChunkSize() {
+            return REQ_LIMIT;
+        }
+
+        private Multi chunkOf(Single[] chunk) {
+            Multi multi = new Multi(chunk);
+            multi.setLastMile(lastMile);
+            return multi;
+        }
+
         @Override
         public Request asHttpRequest(Environment environment, JsonMapper mapper) {
             return post(
@@ -2,6 +2,8 @@ package global.maplink.geocode.schema.suggestions;
 
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +54,20 @@ public class SuggestionsResult implements Iterable<Suggestion> {
         );
     }
 
+    public static SuggestionsResult joinAll(Collection<SuggestionsResult> results) {
+        int found = 0;
+        int size = 0;
+        for (SuggestionsResult result : results) {
+            found += result.found;
+            size += result.isEmpty() ? 0 : result.results.size();
+        }
+        List<Suggestion> joined = new ArrayList<>(size);
+        for (SuggestionsResult result : results) {
+            if (!result.isEmpty()) joined.addAll(result.results);
+        }
+        return new SuggestionsResult(found, joined);
+    }
+
     @Override
     public Iterator<Suggestion> iterator() {
         if (isEmpty()) {
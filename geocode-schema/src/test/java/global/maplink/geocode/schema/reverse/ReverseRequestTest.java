@@ -28,6 +28,19 @@ class ReverseRequestTest {
         assertThat(split.get(2).getEntries()).hasSameElementsAs(request.getEntries().subList(400, 500));
     }
 
+    @Test
+    void splitMustNotCreateEmptyChunkForExactLimit() {
+        val request = generate(200);
+        assertThat(request.split()).hasSize(1);
+    }
+
+    @Test
+    void splitMustUseRequestedChunkSizeUpToLimit() {
+        val request = generate(500);
+        assertThat(request.split(50)).hasSize(10).allMatch(r -> r.size() == 50);
+        assertThat(request.split(1000)).hasSize(3);
+    }
+
     private ReverseRequest generate(int entriesNumber) {
         val entries = range(0, entriesNumber)
                 .mapToObj(i -> entry(
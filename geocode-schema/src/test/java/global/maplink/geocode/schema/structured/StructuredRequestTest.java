@@ -39,6 +39,15 @@ class StructuredRequestTest {
         assertThat(split.get(2).getRequests()).hasSameElementsAs(list.subList(400, 500));
     }
 
+    @Test
+    void splitMustKeepLastMileOnChunks() {
+        val request = generate(250);
+        request.setLastMile(true);
+        val split = request.split(100);
+        assertThat(split).hasSize(3).allMatch(StructuredRequest.Multi::isLastMile);
+        assertThat(split.get(2).size()).isEqualTo(50);
+    }
+
     private StructuredRequest.Multi generate(int entriesNumber) {
         val entries = range(0, entriesNumber)
                 .mapToObj(i -> StructuredRequest.ofState("id-" + i, "Sao paulo " + i))
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 
 import static global.maplink.geocode.schema.Type.ROAD;
 import static global.maplink.geocode.testUtils.SampleFiles.SUGGESTIONS_RESPONSE;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class SuggestionsResultTest {
@@ -24,6 +26,20 @@ public class SuggestionsResultTest {
         assertThat(response.parallelStream()).isNotEmpty().hasSize(10);
     }
 
+    @Test
+    public void mustJoinAllResultsKeepingOrder() {
+        SuggestionsResult first = new SuggestionsResult(2, asList(
+                Suggestion.builder().id("1").build(),
+                Suggestion.builder().id("2").build()
+        ));
+        SuggestionsResult second = new SuggestionsResult(1, singletonList(Suggestion.builder().id("3").build()));
+
+        SuggestionsResult joined = SuggestionsResult.joinAll(asList(first, SuggestionsResult.EMPTY, second));
+
+        assertThat(joined.getFound()).isEqualTo(3);
+        assertThat(joined.stream().map(Suggestion::getId)).containsExactly("1", "2", "3");
+    }
+
     @Test
     public void mustReturnNullOnEmptyResultsForMostRelevant() {
         SuggestionsResult emptyResult = new SuggestionsResult(0, emptyList());
@@ -0,0 +1,62 @@
+package global.maplink.geocode.async;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+public class AdaptiveChunkSizer {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double GROWTH_RATIO = 1.25;
+
+    @Getter
+    private final int minSize;
+
+    @Getter
+    private final int maxSize;
+
+    private final long targetChunkNanos;
+
+    private double perEntryNanos = -1;
+
+    private double errorRate;
+
+    private int currentSize;
+
+    public AdaptiveChunkSizer(int minSize, int maxSize, Duration targetChunkLatency) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("Chunk sizes must satisfy 1 <= minSize <= maxSize");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetChunkNanos = targetChunkLatency.toNanos();
+        this.currentSize = maxSize;
+    }
+
+    public synchronized int getCurrentSize() {
+        return currentSize;
+    }
+
+    public synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    // Grows gradually towards the size answering within the target latency, shrinks right away
+    public synchronized void onSuccess(int entries, long elapsedNanos) {
+        double sample = (double) elapsedNanos / max(1, entries);
+        perEntryNanos = perEntryNanos < 0 ? sample : perEntryNanos * (1 - SMOOTHING) + sample * SMOOTHING;
+        errorRate = errorRate * (1 - SMOOTHING);
+
+        int target = (int) min(maxSize, targetChunkNanos / max(1, perEntryNanos));
+        int next = target > currentSize ? min(target, (int) (currentSize * GROWTH_RATIO) + 1) : target;
+        currentSize = max(minSize, min(maxSize, next));
+    }
+
+    public synchronized void onFailure() {
+        errorRate = errorRate * (1 - SMOOTHING) + SMOOTHING;
+        currentSize = max(minSize, currentSize / 2);
+    }
+}
@@ -2,6 +2,7 @@ package global.maplink.geocode.async;
 
 import global.maplink.MapLinkSDK;
 import global.maplink.env.Environment;
+import global.maplink.extensions.SdkMetricsExtension;
 import global.maplink.geocode.extensions.GeocodeExtensionManager;
 import global.maplink.geocode.schema.Type;
 import global.maplink.geocode.schema.cities.CitiesByStateRequest;
@@ -14,9 +15,11 @@ import global.maplink.geocode.schema.suggestions.SuggestionsResult;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static global.maplink.MapLinkServiceRequestAsyncRunner.createRunner;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 
 public interface GeocodeAsyncAPI {
 
@@ -38,6 +41,11 @@ public interface GeocodeAsyncAPI {
 
     CompletableFuture<SuggestionsResult> structured(StructuredRequest request);
 
+    // Implementations without chunked streaming deliver the whole result as a single chunk
+    default CompletableFuture<Void> structured(StructuredRequest request, Consumer<SuggestionsResult> onChunk) {
+        return structured(request).thenAccept(onChunk);
+    }
+
     default CompletableFuture<SuggestionsResult> reverse(ReverseRequest.Entry... request) {
         return reverse(asList(request));
     }
@@ -48,6 +56,10 @@ public interface GeocodeAsyncAPI {
 
     CompletableFuture<SuggestionsResult> reverse(ReverseRequest request);
 
+    default CompletableFuture<Void> reverse(ReverseRequest request, Consumer<SuggestionsResult> onChunk) {
+        return reverse(request).thenAccept(onChunk);
+    }
+
     default CompletableFuture<SuggestionsResult> crossCities(CrossCitiesRequest.Point... points) {
         return crossCities(asList(points));
     }
@@ -63,13 +75,22 @@ public interface GeocodeAsyncAPI {
     }
 
     static GeocodeAsyncAPI getInstance(Environment environment) {
+        return getInstance(environment, GeocodeAsyncConfig.defaults());
+    }
+
+    static GeocodeAsyncAPI getInstance(Environment environment, GeocodeAsyncConfig config) {
         MapLinkSDK sdk = MapLinkSDK.getInstance();
         return new GeocodeAsyncApiImpl(
                 createRunner(
                         Optional.ofNullable(environment).orElse(sdk.getEnvironment()),
                         sdk
                 ),
-                GeocodeExtensionManager.from(sdk.getExtensions())
+                GeocodeExtensionManager.from(sdk.getExtensions()),
+                config,
+                sdk.getExtensions().stream()
+                        .filter(it -> it instanceof SdkMetricsExtension)
+                        .map(it -> (SdkMetricsExtension) it)
+                        .collect(toList())
         );
     }
 
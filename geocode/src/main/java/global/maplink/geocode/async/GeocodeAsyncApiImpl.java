@@ -1,7 +1,10 @@
 package global.maplink.geocode.async;
 
 import global.maplink.MapLinkServiceRequestAsyncRunner;
+import global.maplink.deadline.Deadline;
+import global.maplink.extensions.SdkMetricsExtension;
 import global.maplink.geocode.extensions.GeocodeExtensionManager;
+import global.maplink.geocode.schema.GeocodeServiceRequest;
 import global.maplink.geocode.schema.GeocodeSplittableRequest;
 import global.maplink.geocode.schema.cities.CitiesByStateRequest;
 import global.maplink.geocode.schema.crossCities.CrossCitiesRequest;
@@ -9,14 +12,22 @@ import global.maplink.geocode.schema.reverse.ReverseRequest;
 import global.maplink.geocode.schema.structured.StructuredRequest;
 import global.maplink.geocode.schema.suggestions.SuggestionsRequest;
 import global.maplink.geocode.schema.suggestions.SuggestionsResult;
-import global.maplink.helpers.FutureHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
-import static global.maplink.geocode.schema.suggestions.SuggestionsResult.EMPTY;
-import static java.util.stream.Collectors.toList;
+import static global.maplink.helpers.ServiceNameHelper.serviceOf;
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PACKAGE;
 
 @RequiredArgsConstructor(access = PACKAGE)
@@ -26,40 +37,143 @@ public class GeocodeAsyncApiImpl implements GeocodeAsyncAPI {
 
     private final GeocodeExtensionManager extensionManager;
 
+    private final GeocodeAsyncConfig config;
+
+    private final List<SdkMetricsExtension> metrics;
+
+    private final Map<Class<?>, AdaptiveChunkSizer> chunkSizers = new ConcurrentHashMap<>();
+
+    GeocodeAsyncApiImpl(MapLinkServiceRequestAsyncRunner runner, GeocodeExtensionManager extensionManager) {
+        this(runner, extensionManager, GeocodeAsyncConfig.defaults(), emptyList());
+    }
+
     @Override
     public CompletableFuture<SuggestionsResult> suggestions(SuggestionsRequest request) {
-        return extensionManager.get(SuggestionsRequest.class).doRequest(request, runner::run);
+        return single(SuggestionsRequest.class, request);
     }
 
     @Override
     public CompletableFuture<SuggestionsResult> structured(StructuredRequest request) {
-        return extensionManager.get(StructuredRequest.class).doRequest(request, runner::run);
+        return joined(chunked(StructuredRequest.class, request).run());
     }
 
     @Override
     public CompletableFuture<SuggestionsResult> citiesByState(CitiesByStateRequest request) {
-        return extensionManager.get(CitiesByStateRequest.class).doRequest(request, runner::run);
+        return single(CitiesByStateRequest.class, request);
     }
 
     @Override
     public CompletableFuture<SuggestionsResult> reverse(ReverseRequest request) {
-        return extensionManager.get(ReverseRequest.class).doRequest(request, this::runSplit);
+        return joined(chunked(ReverseRequest.class, request).run());
     }
 
     @Override
     public CompletableFuture<SuggestionsResult> crossCities(CrossCitiesRequest request) {
-        return extensionManager.get(CrossCitiesRequest.class).doRequest(request, runner::run);
+        return single(CrossCitiesRequest.class, request);
+    }
+
+    @Override
+    public CompletableFuture<Void> structured(StructuredRequest request, Consumer<SuggestionsResult> onChunk) {
+        return chunked(StructuredRequest.class, request).stream(onChunk);
+    }
+
+    @Override
+    public CompletableFuture<Void> reverse(ReverseRequest request, Consumer<SuggestionsResult> onChunk) {
+        return chunked(ReverseRequest.class, request).stream(onChunk);
+    }
+
+    public Optional<AdaptiveChunkSizer> getChunkSizer(Class<? extends GeocodeSplittableRequest> requestType) {
+        return Optional.ofNullable(chunkSizers.get(requestType));
+    }
+
+    // The deadline is resolved on the caller thread, extensions may run the call from other threads
+    private <R extends GeocodeServiceRequest> CompletableFuture<SuggestionsResult> single(Class<R> type, R request) {
+        val deadline = runner.resolveDeadline();
+        return extensionManager.get(type).doRequest(request, r -> runner.run(r, deadline));
+    }
+
+    // Extensions are applied to each chunk, so blocking and streaming calls see the same requests
+    private <R extends GeocodeSplittableRequest> WindowedFanOut<R, SuggestionsResult> chunked(Class<R> type, R request) {
+        val batchDeadline = batchDeadline();
+        val extension = extensionManager.get(type);
+        return fanOut(
+                request,
+                chunk -> extension.doRequest(chunk, c -> runner.run(c, chunkDeadline(batchDeadline))),
+                batchDeadline
+        );
+    }
+
+    // Resolved on the caller thread, its deadline and the batch timeout bound the whole fan-out
+    private Deadline batchDeadline() {
+        val scope = Deadline.current();
+        val timeout = config.getBatchTimeout();
+        return isNull(timeout) ? scope : Deadline.after(timeout).earliest(scope);
+    }
+
+    // Each chunk call, retries included, gets the request timeout from the moment it's sent
+    private Deadline chunkDeadline(Deadline batchDeadline) {
+        val timeout = runner.getRequestTimeout();
+        return isNull(timeout) ? batchDeadline : Deadline.after(timeout).earliest(batchDeadline);
     }
 
-    private CompletableFuture<SuggestionsResult> runSplit(GeocodeSplittableRequest request) {
-        val requests = request.split().stream().map(runner::run).collect(toList());
-        return CompletableFuture.allOf(requests.toArray(new CompletableFuture[0]))
-                .thenApply(v -> requests.stream()
-                        .map(FutureHelper::await)
-                        .reduce(SuggestionsResult::joinTo)
-                        .orElse(EMPTY)
-                );
+    private static CompletableFuture<SuggestionsResult> joined(CompletableFuture<List<SuggestionsResult>> chunks) {
+        CompletableFuture<SuggestionsResult> joined = chunks.thenApply(
+                results -> results.size() == 1 ? results.get(0) : SuggestionsResult.joinAll(results)
+        );
+        // Cancelling the returned future stops the chunks still running, as streamed calls do
+        joined.whenComplete((r, e) -> {
+            if (nonNull(e)) {
+                chunks.completeExceptionally(e);
+            }
+        });
+        return joined;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R extends GeocodeSplittableRequest> WindowedFanOut<R, SuggestionsResult> fanOut(
+            R request,
+            Function<R, CompletableFuture<SuggestionsResult>> call,
+            Deadline deadline
+    ) {
+        if (!config.isAdaptiveChunking()) {
+            return new WindowedFanOut<>((List<? extends R>) request.split(), call, config, deadline);
+        }
+        val sizer = chunkSizers.computeIfAbsent(request.getClass(), t -> new AdaptiveChunkSizer(
+                min(config.getMinChunkSize(), request.maxChunkSize()),
+                request.maxChunkSize(),
+                config.getTargetChunkLatency()
+        ));
+        int chunkSize = sizer.getCurrentSize();
+        String service = serviceOf(request.getClass());
+        for (SdkMetricsExtension metric : metrics) {
+            metric.onChunkSize(service, chunkSize);
+        }
+        return new WindowedFanOut<>(
+                (List<? extends R>) request.split(chunkSize),
+                measured(sizer, call),
+                config,
+                deadline
+        );
+    }
 
+    private static <R extends GeocodeSplittableRequest> Function<R, CompletableFuture<SuggestionsResult>> measured(
+            AdaptiveChunkSizer sizer,
+            Function<R, CompletableFuture<SuggestionsResult>> call
+    ) {
+        return chunk -> {
+            long start = System.nanoTime();
+            CompletableFuture<SuggestionsResult> response = call.apply(chunk);
+            // The chunk future itself is handed back, the fan-out cancels it when a sibling fails
+            response.whenComplete((r, e) -> {
+                if (isNull(e)) {
+                    sizer.onSuccess(chunk.size(), System.nanoTime() - start);
+                } else if (WindowedFanOut.isRetryable(e)) {
+                    // Siblings cancelled by a failed chunk or an expired deadline tell nothing about the chunk size
+                    sizer.onFailure();
+                }
+            });
+            return response;
+        };
     }
 
 }
@@ -0,0 +1,44 @@
+package global.maplink.geocode.async;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class GeocodeAsyncConfig {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT_CHUNKS = 8;
+    public static final int DEFAULT_CHUNK_RETRIES = 2;
+    public static final Duration DEFAULT_CHUNK_RETRY_DELAY = Duration.ofMillis(500);
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 10;
+    public static final Duration DEFAULT_TARGET_CHUNK_LATENCY = Duration.ofSeconds(2);
+
+    // Chunks of splittable requests (reverse, multi structured) sent at the same time
+    @Builder.Default
+    int maxInFlightChunks = DEFAULT_MAX_IN_FLIGHT_CHUNKS;
+
+    @Builder.Default
+    int chunkRetries = DEFAULT_CHUNK_RETRIES;
+
+    // Doubled on each retry of the same chunk
+    @Builder.Default
+    Duration chunkRetryDelay = DEFAULT_CHUNK_RETRY_DELAY;
+
+    // Chunk sizes follow observed latency and errors, up to the limit accepted by the API
+    boolean adaptiveChunking;
+
+    @Builder.Default
+    int minChunkSize = DEFAULT_MIN_CHUNK_SIZE;
+
+    @Builder.Default
+    Duration targetChunkLatency = DEFAULT_TARGET_CHUNK_LATENCY;
+
+    // Bounds a whole chunked call, each chunk call is bounded by the SDK request timeout on its own
+    Duration batchTimeout;
+
+    public static GeocodeAsyncConfig defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,236 @@
+package global.maplink.geocode.async;
+
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
+import global.maplink.http.exceptions.MapLinkHttpException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static global.maplink.helpers.SchedulerHelper.sharedScheduler;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+class WindowedFanOut<REQ, RES> {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final List<? extends REQ> chunks;
+
+    private final Function<REQ, CompletableFuture<RES>> call;
+
+    private final GeocodeAsyncConfig config;
+
+    private final Deadline deadline;
+
+    private final ScheduledExecutorService scheduler;
+
+    private Object[] results;
+
+    private Consumer<RES> listener;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicInteger remaining;
+
+    private final CompletableFuture<List<RES>> result = new CompletableFuture<>();
+
+    private final Set<CompletableFuture<RES>> inFlight = ConcurrentHashMap.newKeySet();
+
+    WindowedFanOut(List<? extends REQ> chunks, Function<REQ, CompletableFuture<RES>> call, GeocodeAsyncConfig config) {
+        this(chunks, call, config, null);
+    }
+
+    WindowedFanOut(
+            List<? extends REQ> chunks,
+            Function<REQ, CompletableFuture<RES>> call,
+            GeocodeAsyncConfig config,
+            Deadline deadline
+    ) {
+        this(chunks, call, config, deadline, sharedScheduler());
+    }
+
+    // The batch deadline covers the whole fan-out, chunks launched later and retries do not get a fresh one
+    WindowedFanOut(
+            List<? extends REQ> chunks,
+            Function<REQ, CompletableFuture<RES>> call,
+            GeocodeAsyncConfig config,
+            Deadline deadline,
+            ScheduledExecutorService scheduler
+    ) {
+        this.chunks = chunks;
+        this.call = call;
+        this.config = config;
+        this.deadline = deadline;
+        this.scheduler = scheduler;
+        this.remaining = new AtomicInteger(chunks.size());
+        result.whenComplete((r, e) -> {
+            if (nonNull(e)) {
+                cancelInFlight();
+            }
+        });
+    }
+
+    CompletableFuture<List<RES>> run() {
+        results = new Object[chunks.size()];
+        return start();
+    }
+
+    // Results are handed to the listener as chunks complete, one at a time, and are not retained
+    CompletableFuture<Void> stream(Consumer<RES> listener) {
+        this.listener = listener;
+        CompletableFuture<Void> done = start().thenApply(r -> null);
+        // Cancelling the returned future stops the chunks still running
+        done.whenComplete((r, e) -> {
+            if (nonNull(e)) {
+                result.completeExceptionally(e);
+            }
+        });
+        return done;
+    }
+
+    private CompletableFuture<List<RES>> start() {
+        if (chunks.isEmpty()) {
+            result.complete(new ArrayList<>());
+            return result;
+        }
+        if (nonNull(deadline)) {
+            expireAt(deadline);
+        }
+        int window = min(chunks.size(), Math.max(1, config.getMaxInFlightChunks()));
+        for (int i = 0; i < window; i++) {
+            launchNext();
+        }
+        return result;
+    }
+
+    private void expireAt(Deadline deadline) {
+        if (deadline.isExpired()) {
+            result.completeExceptionally(new DeadlineExceededException(deadline.getTimeout()));
+            return;
+        }
+        ScheduledFuture<?> expiration = scheduler.schedule(
+                () -> result.completeExceptionally(new DeadlineExceededException(deadline.getTimeout())),
+                deadline.remainingNanos(),
+                NANOSECONDS
+        );
+        result.whenComplete((r, e) -> expiration.cancel(false));
+    }
+
+    private void launchNext() {
+        int index = next.getAndIncrement();
+        if (index < chunks.size() && !result.isDone()) {
+            attempt(index, 0);
+        }
+    }
+
+    private void attempt(int index, int retry) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<RES> chunk = send(index);
+        track(chunk);
+        chunk.whenComplete((r, e) -> {
+            inFlight.remove(chunk);
+            if (nonNull(e)) {
+                onFailure(index, retry, e);
+                return;
+            }
+            try {
+                deliver(index, r);
+            } catch (RuntimeException listenerError) {
+                result.completeExceptionally(listenerError);
+                return;
+            }
+            if (remaining.decrementAndGet() == 0) {
+                result.complete(collect());
+            } else {
+                launchNext();
+            }
+        });
+    }
+
+    private CompletableFuture<RES> send(int index) {
+        try {
+            return call.apply(chunks.get(index));
+        } catch (RuntimeException e) {
+            CompletableFuture<RES> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private void track(CompletableFuture<RES> chunk) {
+        inFlight.add(chunk);
+        // A failure racing with the launch would miss this chunk when cancelling
+        if (result.isCompletedExceptionally()) {
+            chunk.cancel(true);
+        }
+    }
+
+    private void cancelInFlight() {
+        for (CompletableFuture<RES> chunk : inFlight) {
+            chunk.cancel(true);
+        }
+    }
+
+    private void onFailure(int index, int retry, Throwable error) {
+        long delay = config.getChunkRetryDelay().toMillis() << retry;
+        if (retry < config.getChunkRetries() && isRetryable(error) && !result.isDone() && canWait(delay)) {
+            scheduler.schedule(() -> attempt(index, retry + 1), delay, MILLISECONDS);
+            return;
+        }
+        result.completeExceptionally(error);
+    }
+
+    private boolean canWait(long delayMillis) {
+        return isNull(deadline) || deadline.remainingNanos() > MILLISECONDS.toNanos(delayMillis);
+    }
+
+    private void deliver(int index, RES chunkResult) {
+        if (nonNull(results)) {
+            results[index] = chunkResult;
+            return;
+        }
+        synchronized (this) {
+            if (!result.isDone()) {
+                listener.accept(chunkResult);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RES> collect() {
+        if (results == null) {
+            return null;
+        }
+        return (List<RES>) Arrays.asList(results);
+    }
+
+    // Throttling, server errors and I/O failures, anything else will not get better on a new attempt
+    static boolean isRetryable(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && nonNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof MapLinkHttpException) {
+            int status = ((MapLinkHttpException) cause).getStatus();
+            return status == TOO_MANY_REQUESTS || status >= 500;
+        }
+        return cause instanceof IOException;
+    }
+}
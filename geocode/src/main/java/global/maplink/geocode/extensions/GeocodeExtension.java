@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
 public interface GeocodeExtension<REQ extends GeocodeServiceRequest> extends SdkExtension {
@@ -15,7 +16,16 @@ public interface GeocodeExtension<REQ extends GeocodeServiceRequest> extends Sdk
     Class<REQ> getRequestType();
 
     default CompletableFuture<SuggestionsResult> doRequest(REQ request, Function<REQ, CompletableFuture<SuggestionsResult>> action) {
-        return processRequest(request).thenCompose(action).thenCompose(this::processResponse);
+        CompletableFuture<CompletableFuture<SuggestionsResult>> sent = processRequest(request).thenApply(action);
+        CompletableFuture<SuggestionsResult> response = sent.thenCompose(identity()).thenCompose(this::processResponse);
+        // Composed stages don't propagate cancellation, the call is aborted (or never sent) when the response is cancelled
+        response.whenComplete((r, e) -> {
+            if (response.isCancelled()) {
+                sent.cancel(false);
+                sent.thenAccept(call -> call.cancel(true));
+            }
+        });
+        return response;
     }
 
     default CompletableFuture<REQ> processRequest(REQ response) {
@@ -0,0 +1,29 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.cities.CitiesByStateRequest;
+
+import java.util.Arrays;
+
+public class CitiesByStateCacheExtension extends GeocodeCacheExtension<CitiesByStateRequest> {
+
+    private static final String EXTENSION_NAME = "Geocode Cities By State - Cache Extension";
+
+    public CitiesByStateCacheExtension(GeocodeResponseCache cache) {
+        super(cache);
+    }
+
+    @Override
+    protected Object keyOf(CitiesByStateRequest request) {
+        return Arrays.asList(CitiesByStateRequest.PATH, normalize(request.getState()));
+    }
+
+    @Override
+    public Class<CitiesByStateRequest> getRequestType() {
+        return CitiesByStateRequest.class;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+}
@@ -0,0 +1,67 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.extensions.GeocodeExtension;
+import global.maplink.geocode.schema.GeocodeServiceRequest;
+import global.maplink.geocode.schema.suggestions.Suggestion;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+@RequiredArgsConstructor
+public abstract class GeocodeCacheExtension<REQ extends GeocodeServiceRequest> implements GeocodeExtension<REQ> {
+
+    public static final int PRIORITY = 2000;
+
+    @Getter
+    private final GeocodeResponseCache cache;
+
+    // Requests returning null are not cached
+    protected abstract Object keyOf(REQ request);
+
+    protected SuggestionsResult adapt(REQ request, SuggestionsResult cached) {
+        return cached;
+    }
+
+    @Override
+    public CompletableFuture<SuggestionsResult> doRequest(
+            REQ request,
+            Function<REQ, CompletableFuture<SuggestionsResult>> action
+    ) {
+        Object key = keyOf(request);
+        if (isNull(key)) {
+            return action.apply(request);
+        }
+        return cache.get(key, () -> action.apply(request)).thenApply(r -> adapt(request, r));
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+
+    static Suggestion withId(Suggestion s, String id) {
+        return new Suggestion(
+                id,
+                s.getPoi(),
+                s.getAddress(),
+                s.getType(),
+                s.getScore(),
+                s.getDistance(),
+                s.getPolygonWKT(),
+                s.getLabel()
+        );
+    }
+
+    protected static String normalize(String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
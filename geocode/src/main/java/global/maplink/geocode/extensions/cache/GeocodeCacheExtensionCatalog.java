@@ -0,0 +1,42 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.extensions.SdkExtension;
+import global.maplink.extensions.SdkExtensionCatalog;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+public class GeocodeCacheExtensionCatalog implements SdkExtensionCatalog {
+
+    @Getter
+    private final GeocodeResponseCache cache;
+
+    private final List<SdkExtension> all;
+
+    public GeocodeCacheExtensionCatalog() {
+        this(new GeocodeResponseCache());
+    }
+
+    public GeocodeCacheExtensionCatalog(GeocodeResponseCache cache) {
+        this(cache, ReverseCacheExtension.DEFAULT_GEOHASH_PRECISION);
+    }
+
+    public GeocodeCacheExtensionCatalog(GeocodeResponseCache cache, int geohashPrecision) {
+        this.cache = cache;
+        this.all = unmodifiableList(Arrays.asList(
+                new SuggestionsCacheExtension(cache),
+                new StructuredCacheExtension(cache),
+                new CitiesByStateCacheExtension(cache),
+                new ReverseCacheExtension(cache, geohashPrecision)
+        ));
+    }
+
+    @Override
+    public Collection<SdkExtension> getAll() {
+        return all;
+    }
+}
@@ -0,0 +1,17 @@
+package global.maplink.geocode.extensions.cache;
+
+import lombok.Value;
+
+@Value
+public class GeocodeCacheStats {
+    long hits;
+    long misses;
+    long coalesced;
+    long evictions;
+    int size;
+
+    public double getHitRatio() {
+        long lookups = hits + misses + coalesced;
+        return lookups == 0 ? 0 : (double) (hits + coalesced) / lookups;
+    }
+}
@@ -0,0 +1,151 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+public class GeocodeResponseCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofHours(1);
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<Object, Entry> entries;
+
+    private final Map<Object, CompletableFuture<SuggestionsResult>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public GeocodeResponseCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TTL);
+    }
+
+    public GeocodeResponseCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    GeocodeResponseCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache max size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > GeocodeResponseCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public CompletableFuture<SuggestionsResult> get(Object key, Supplier<CompletableFuture<SuggestionsResult>> loader) {
+        SuggestionsResult cached = lookup(key);
+        if (nonNull(cached)) {
+            hits.increment();
+            return completedFuture(cached);
+        }
+
+        CompletableFuture<SuggestionsResult> load = new CompletableFuture<>();
+        CompletableFuture<SuggestionsResult> running = loading.putIfAbsent(key, load);
+        if (nonNull(running)) {
+            coalesced.increment();
+            return running.thenApply(r -> r);
+        }
+
+        misses.increment();
+        try {
+            loader.get().whenComplete((r, e) -> {
+                if (isNull(e) && nonNull(r)) {
+                    store(key, r);
+                }
+                loading.remove(key, load);
+                if (nonNull(e)) {
+                    load.completeExceptionally(e);
+                } else {
+                    load.complete(r);
+                }
+            });
+        } catch (RuntimeException e) {
+            loading.remove(key, load);
+            load.completeExceptionally(e);
+        }
+        // Every caller gets its own copy, cancelling it never fails the load shared with coalesced callers
+        return load.thenApply(r -> r);
+    }
+
+    SuggestionsResult peek(Object key) {
+        SuggestionsResult cached = lookup(key);
+        if (nonNull(cached)) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    void put(Object key, SuggestionsResult value) {
+        store(key, value);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public GeocodeCacheStats getStats() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new GeocodeCacheStats(hits.sum(), misses.sum(), coalesced.sum(), evictions.sum(), size);
+    }
+
+    private synchronized SuggestionsResult lookup(Object key) {
+        Entry entry = entries.get(key);
+        if (isNull(entry)) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.storedAt >= ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private synchronized void store(Object key, SuggestionsResult value) {
+        entries.put(key, new Entry(value, nanoClock.getAsLong()));
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final SuggestionsResult value;
+        private final long storedAt;
+    }
+}
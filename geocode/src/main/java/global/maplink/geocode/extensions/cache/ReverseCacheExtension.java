@@ -0,0 +1,155 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.domain.MaplinkPoint;
+import global.maplink.geocode.extensions.GeocodeExtension;
+import global.maplink.geocode.schema.reverse.ReverseRequest;
+import global.maplink.geocode.schema.suggestions.Suggestion;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.Getter;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static global.maplink.geocode.extensions.cache.GeocodeCacheExtension.withId;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.groupingBy;
+
+public class ReverseCacheExtension implements GeocodeExtension<ReverseRequest> {
+
+    public static final int DEFAULT_GEOHASH_PRECISION = 8;
+
+    private static final String EXTENSION_NAME = "Geocode Reverse - Cache Extension";
+
+    private static final String CELL_ID_PREFIX = "cell-";
+
+    @Getter
+    private final GeocodeResponseCache cache;
+
+    @Getter
+    private final int geohashPrecision;
+
+    public ReverseCacheExtension(GeocodeResponseCache cache) {
+        this(cache, DEFAULT_GEOHASH_PRECISION);
+    }
+
+    public ReverseCacheExtension(GeocodeResponseCache cache, int geohashPrecision) {
+        if (geohashPrecision < 1 || geohashPrecision > 12) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and 12");
+        }
+        this.cache = cache;
+        this.geohashPrecision = geohashPrecision;
+    }
+
+    @Override
+    public CompletableFuture<SuggestionsResult> doRequest(
+            ReverseRequest request,
+            Function<ReverseRequest, CompletableFuture<SuggestionsResult>> action
+    ) {
+        val entries = request.getEntries();
+        val keys = new ArrayList<Object>(entries.size());
+        val resolved = new HashMap<Object, SuggestionsResult>();
+        // Distances are relative to the point sent, so they are only kept for the entry that was sent
+        val sentEntries = new HashSet<ReverseRequest.Entry>();
+        // Only one entry per missing cell is sent, identified by a synthetic id to map results back
+        val missing = new LinkedHashMap<Object, ReverseRequest.Entry>();
+
+        for (ReverseRequest.Entry entry : entries) {
+            Object key = keyOf(entry);
+            keys.add(key);
+            if (resolved.containsKey(key) || missing.containsKey(key)) {
+                continue;
+            }
+            SuggestionsResult cached = cache.peek(key);
+            if (cached != null) {
+                resolved.put(key, cached);
+            } else {
+                sentEntries.add(entry);
+                missing.put(key, ReverseRequest.Entry.builder()
+                        .id(CELL_ID_PREFIX + missing.size())
+                        .lat(entry.getLat())
+                        .lon(entry.getLon())
+                        .distance(entry.getDistance())
+                        .build());
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return completedFuture(merge(entries, keys, resolved, sentEntries));
+        }
+
+        return action.apply(ReverseRequest.of(new ArrayList<>(missing.values()))).thenApply(result -> {
+            Map<String, List<Suggestion>> byCell = result.stream()
+                    .filter(s -> nonNull(s.getId()))
+                    .collect(groupingBy(Suggestion::getId));
+            missing.forEach((key, sent) -> {
+                val suggestions = byCell.getOrDefault(sent.getId(), emptyList());
+                val cellResult = new SuggestionsResult(suggestions.size(), suggestions);
+                cache.put(key, cellResult);
+                resolved.put(key, cellResult);
+            });
+            return merge(entries, keys, resolved, sentEntries);
+        });
+    }
+
+    private Object keyOf(ReverseRequest.Entry entry) {
+        String cell = new MaplinkPoint(entry.getLat().doubleValue(), entry.getLon().doubleValue())
+                .toGeohash(geohashPrecision);
+        return Arrays.asList(ReverseRequest.PATH, cell, entry.getDistance());
+    }
+
+    private static SuggestionsResult merge(
+            List<ReverseRequest.Entry> entries,
+            List<Object> keys,
+            Map<Object, SuggestionsResult> resolved,
+            Set<ReverseRequest.Entry> sentEntries
+    ) {
+        val merged = new ArrayList<Suggestion>();
+        for (int i = 0; i < entries.size(); i++) {
+            val entry = entries.get(i);
+            boolean sent = sentEntries.contains(entry);
+            for (Suggestion suggestion : resolved.get(keys.get(i))) {
+                merged.add(sent ? withId(suggestion, entry.getId()) : withoutDistance(suggestion, entry.getId()));
+            }
+        }
+        return new SuggestionsResult(merged.size(), merged);
+    }
+
+    private static Suggestion withoutDistance(Suggestion s, String id) {
+        return new Suggestion(
+                id,
+                s.getPoi(),
+                s.getAddress(),
+                s.getType(),
+                s.getScore(),
+                null,
+                s.getPolygonWKT(),
+                s.getLabel()
+        );
+    }
+
+    @Override
+    public Class<ReverseRequest> getRequestType() {
+        return ReverseRequest.class;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return GeocodeCacheExtension.PRIORITY;
+    }
+}
@@ -0,0 +1,61 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.structured.StructuredRequest;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+
+public class StructuredCacheExtension extends GeocodeCacheExtension<StructuredRequest> {
+
+    private static final String EXTENSION_NAME = "Geocode Structured - Cache Extension";
+
+    public StructuredCacheExtension(GeocodeResponseCache cache) {
+        super(cache);
+    }
+
+    // Only single requests are cached, the id is left out of the key since it only correlates the response
+    @Override
+    protected Object keyOf(StructuredRequest request) {
+        if (!(request instanceof StructuredRequest.Single)) {
+            return null;
+        }
+        StructuredRequest.Single single = (StructuredRequest.Single) request;
+        return Arrays.asList(
+                StructuredRequest.Single.PATH,
+                normalize(single.getRoad()),
+                single.getNumber(),
+                normalize(single.getZipcode()),
+                normalize(single.getDistrict()),
+                normalize(single.getCity()),
+                normalize(single.getState()),
+                normalize(single.getAcronym()),
+                single.getType(),
+                single.isLastMile()
+        );
+    }
+
+    @Override
+    protected SuggestionsResult adapt(StructuredRequest request, SuggestionsResult cached) {
+        String id = ((StructuredRequest.Single) request).getId();
+        if (cached.isEmpty() || cached.stream().allMatch(s -> Objects.equals(id, s.getId()))) {
+            return cached;
+        }
+        return new SuggestionsResult(
+                cached.getFound(),
+                cached.stream().map(s -> withId(s, id)).collect(toList())
+        );
+    }
+
+    @Override
+    public Class<StructuredRequest> getRequestType() {
+        return StructuredRequest.class;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+}
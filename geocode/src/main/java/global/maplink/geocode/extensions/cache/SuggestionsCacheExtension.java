@@ -0,0 +1,34 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.suggestions.SuggestionsRequest;
+
+import java.util.Arrays;
+
+public class SuggestionsCacheExtension extends GeocodeCacheExtension<SuggestionsRequest> {
+
+    private static final String EXTENSION_NAME = "Geocode Suggestions - Cache Extension";
+
+    public SuggestionsCacheExtension(GeocodeResponseCache cache) {
+        super(cache);
+    }
+
+    @Override
+    protected Object keyOf(SuggestionsRequest request) {
+        return Arrays.asList(
+                SuggestionsRequest.PATH,
+                normalize(request.getQuery()),
+                request.getType(),
+                request.isLastMile()
+        );
+    }
+
+    @Override
+    public Class<SuggestionsRequest> getRequestType() {
+        return SuggestionsRequest.class;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+}
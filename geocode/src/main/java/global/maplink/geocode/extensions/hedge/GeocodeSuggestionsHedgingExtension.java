@@ -0,0 +1,209 @@
+package global.maplink.geocode.extensions.hedge;
+
+import global.maplink.geocode.extensions.GeocodeExtension;
+import global.maplink.geocode.schema.suggestions.SuggestionsRequest;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import global.maplink.retry.RetryBudget;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static global.maplink.helpers.SchedulerHelper.sharedScheduler;
+import static java.lang.Math.max;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class GeocodeSuggestionsHedgingExtension implements GeocodeExtension<SuggestionsRequest> {
+
+    public static final int PRIORITY = 100;
+
+    private static final String EXTENSION_NAME = "Geocode Suggestions - Hedging Extension";
+
+    @Getter
+    private final HedgingConfig config;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final LatencyTracker latencies;
+
+    private final RetryBudget budget;
+
+    private final AtomicLong hedged = new AtomicLong();
+
+    public GeocodeSuggestionsHedgingExtension() {
+        this(HedgingConfig.defaults());
+    }
+
+    public GeocodeSuggestionsHedgingExtension(HedgingConfig config) {
+        this(config, sharedScheduler());
+    }
+
+    public GeocodeSuggestionsHedgingExtension(HedgingConfig config, ScheduledExecutorService scheduler) {
+        this.config = config;
+        this.scheduler = scheduler;
+        this.latencies = new LatencyTracker(config.getSampleSize(), config.getPercentile());
+        this.budget = new RetryBudget(config.getMaxHedgeRatio(), config.getMaxHedgeBurst());
+    }
+
+    @Override
+    public Class<SuggestionsRequest> getRequestType() {
+        return SuggestionsRequest.class;
+    }
+
+    @Override
+    public CompletableFuture<SuggestionsResult> doRequest(
+            SuggestionsRequest request,
+            Function<SuggestionsRequest, CompletableFuture<SuggestionsResult>> action
+    ) {
+        budget.onRequest();
+        HedgedCall call = new HedgedCall(request, action);
+        // Cancelling the returned future aborts the running attempts and the scheduled hedge
+        call.result.whenComplete((r, e) -> {
+            if (call.result.isCancelled()) {
+                call.cancelRemaining();
+            }
+        });
+        call.launch();
+        call.scheduleHedge(getHedgeDelayMillis());
+        return call.result;
+    }
+
+    public long getHedgeDelayMillis() {
+        if (latencies.size() < config.getMinSamples()) {
+            return config.getInitialDelay().toMillis();
+        }
+        return max(config.getMinDelay().toMillis(), latencies.percentile());
+    }
+
+    public long getHedgedCount() {
+        return hedged.get();
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+
+    @Override
+    public int getPriority() {
+        return PRIORITY;
+    }
+
+    private class HedgedCall {
+
+        private final SuggestionsRequest request;
+
+        private final Function<SuggestionsRequest, CompletableFuture<SuggestionsResult>> action;
+
+        private final CompletableFuture<SuggestionsResult> result = new CompletableFuture<>();
+
+        private final List<CompletableFuture<SuggestionsResult>> attempts = new ArrayList<>(2);
+
+        private ScheduledFuture<?> hedgeTask;
+
+        private int launched;
+
+        private int pending;
+
+        HedgedCall(SuggestionsRequest request, Function<SuggestionsRequest, CompletableFuture<SuggestionsResult>> action) {
+            this.request = request;
+            this.action = action;
+        }
+
+        void scheduleHedge(long delayMillis) {
+            ScheduledFuture<?> task = scheduler.schedule(this::hedge, delayMillis, MILLISECONDS);
+            synchronized (this) {
+                hedgeTask = task;
+            }
+            if (result.isDone()) {
+                task.cancel(false);
+            }
+        }
+
+        private void hedge() {
+            if (result.isDone() || !budget.tryAcquireRetry()) {
+                return;
+            }
+            hedged.incrementAndGet();
+            launch();
+        }
+
+        void launch() {
+            long start = System.nanoTime();
+            boolean primary;
+            synchronized (this) {
+                if (result.isDone()) {
+                    return;
+                }
+                primary = launched++ == 0;
+                pending++;
+            }
+            // Built out of the lock, the hedge runs the request pipeline up to the http send on the scheduler thread
+            CompletableFuture<SuggestionsResult> attempt;
+            try {
+                attempt = action.apply(request);
+            } catch (RuntimeException e) {
+                attempt = new CompletableFuture<>();
+                attempt.completeExceptionally(e);
+            }
+            synchronized (this) {
+                attempts.add(attempt);
+            }
+            // The call could have finished while the attempt was being built
+            if (result.isDone()) {
+                attempt.cancel(true);
+            }
+            attempt.whenComplete((r, e) -> {
+                onComplete(r, e);
+                if (primary) {
+                    recordPrimary(start);
+                }
+            });
+        }
+
+        // Only the primary attempt is sampled, recording winners would pull the percentile towards the hedges.
+        // A primary cancelled because a hedge won is recorded with its elapsed time, a lower bound of its latency
+        private void recordPrimary(long start) {
+            if (result.isDone() && !result.isCompletedExceptionally()) {
+                latencies.record(MILLISECONDS.convert(System.nanoTime() - start, NANOSECONDS));
+            }
+        }
+
+        private void onComplete(SuggestionsResult response, Throwable error) {
+            if (nonNull(error)) {
+                boolean last;
+                synchronized (this) {
+                    last = --pending == 0;
+                }
+                // Hedging is for latency, a failure without another call running fails the request right away
+                if (last && result.completeExceptionally(error)) {
+                    cancelRemaining();
+                }
+                return;
+            }
+            if (result.complete(response)) {
+                cancelRemaining();
+            }
+        }
+
+        private void cancelRemaining() {
+            List<CompletableFuture<SuggestionsResult>> running;
+            ScheduledFuture<?> task;
+            synchronized (this) {
+                running = new ArrayList<>(attempts);
+                task = hedgeTask;
+            }
+            if (nonNull(task)) {
+                task.cancel(false);
+            }
+            running.forEach(f -> f.cancel(true));
+        }
+    }
+}
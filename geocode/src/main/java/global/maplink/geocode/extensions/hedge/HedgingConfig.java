@@ -0,0 +1,47 @@
+package global.maplink.geocode.extensions.hedge;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class HedgingConfig {
+
+    public static final double DEFAULT_PERCENTILE = 0.95;
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(200);
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+    public static final int DEFAULT_MIN_SAMPLES = 50;
+    public static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+    public static final int DEFAULT_MAX_HEDGE_BURST = 10;
+
+    // A duplicated call is sent when the original did not answer after this percentile of recent latencies
+    @Builder.Default
+    double percentile = DEFAULT_PERCENTILE;
+
+    // Delay used while not enough latencies were observed
+    @Builder.Default
+    Duration initialDelay = DEFAULT_INITIAL_DELAY;
+
+    @Builder.Default
+    Duration minDelay = DEFAULT_MIN_DELAY;
+
+    @Builder.Default
+    int sampleSize = DEFAULT_SAMPLE_SIZE;
+
+    @Builder.Default
+    int minSamples = DEFAULT_MIN_SAMPLES;
+
+    // Hedged calls are limited to this fraction of the requests, plus a small burst
+    @Builder.Default
+    double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+
+    @Builder.Default
+    int maxHedgeBurst = DEFAULT_MAX_HEDGE_BURST;
+
+    public static HedgingConfig defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,60 @@
+package global.maplink.geocode.extensions.hedge;
+
+import java.util.Arrays;
+
+import static java.lang.Math.min;
+
+class LatencyTracker {
+
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final long[] samples;
+
+    private final double percentile;
+
+    private int size;
+
+    private int next;
+
+    private int sinceRecompute;
+
+    private long cachedPercentile = -1;
+
+    LatencyTracker(int capacity, double percentile) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Sample size must be positive");
+        }
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be in (0, 1]");
+        }
+        this.samples = new long[capacity];
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        size = min(size + 1, samples.length);
+        if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+            cachedPercentile = -1;
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // Sorting the window is amortized over RECOMPUTE_INTERVAL samples
+    synchronized long percentile() {
+        if (size == 0) {
+            return 0;
+        }
+        if (cachedPercentile < 0) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            cachedPercentile = sorted[min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+            sinceRecompute = 0;
+        }
+        return cachedPercentile;
+    }
+}
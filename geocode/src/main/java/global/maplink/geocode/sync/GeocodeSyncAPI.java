@@ -2,6 +2,7 @@ package global.maplink.geocode.sync;
 
 import global.maplink.env.Environment;
 import global.maplink.geocode.async.GeocodeAsyncAPI;
+import global.maplink.geocode.async.GeocodeAsyncConfig;
 import global.maplink.geocode.schema.Type;
 import global.maplink.geocode.schema.cities.CitiesByStateRequest;
 import global.maplink.geocode.schema.crossCities.CrossCitiesRequest;
@@ -61,4 +62,8 @@ public interface GeocodeSyncAPI {
     static GeocodeSyncAPI getInstance(Environment environment) {
         return new GeocodeSyncApiImpl(GeocodeAsyncAPI.getInstance(environment));
     }
+
+    static GeocodeSyncAPI getInstance(Environment environment, GeocodeAsyncConfig config) {
+        return new GeocodeSyncApiImpl(GeocodeAsyncAPI.getInstance(environment, config));
+    }
 }
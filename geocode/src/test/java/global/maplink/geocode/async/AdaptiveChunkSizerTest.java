@@ -0,0 +1,48 @@
+package global.maplink.geocode.async;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveChunkSizerTest {
+
+    @Test
+    void shouldStartAtMaxSize() {
+        val sizer = new AdaptiveChunkSizer(10, 200, Duration.ofSeconds(1));
+        assertThat(sizer.getCurrentSize()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldShrinkWhenEntriesAreSlow() {
+        val sizer = new AdaptiveChunkSizer(10, 200, Duration.ofSeconds(1));
+
+        sizer.onSuccess(200, MILLISECONDS.toNanos(4000));
+
+        assertThat(sizer.getCurrentSize()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldGrowGraduallyWhenEntriesAreFast() {
+        val sizer = new AdaptiveChunkSizer(10, 200, Duration.ofSeconds(1));
+        sizer.onFailure();
+        assertThat(sizer.getCurrentSize()).isEqualTo(100);
+
+        sizer.onSuccess(100, MILLISECONDS.toNanos(100));
+
+        assertThat(sizer.getCurrentSize()).isEqualTo(126);
+        assertThat(sizer.getErrorRate()).isGreaterThan(0);
+    }
+
+    @Test
+    void shouldNotGoBelowMinSize() {
+        val sizer = new AdaptiveChunkSizer(10, 200, Duration.ofSeconds(1));
+        for (int i = 0; i < 10; i++) {
+            sizer.onFailure();
+        }
+        assertThat(sizer.getCurrentSize()).isEqualTo(10);
+    }
+}
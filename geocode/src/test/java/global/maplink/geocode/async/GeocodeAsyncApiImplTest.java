@@ -0,0 +1,139 @@
+package global.maplink.geocode.async;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.MapLinkServiceRequestAsyncRunner;
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
+import global.maplink.env.Environment;
+import global.maplink.geocode.extensions.GeocodeExtensionManager;
+import global.maplink.geocode.schema.reverse.ReverseRequest;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import global.maplink.http.exceptions.MapLinkHttpException;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static global.maplink.geocode.schema.reverse.ReverseRequest.entry;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeocodeAsyncApiImplTest {
+
+    private final PendingRunner runner = new PendingRunner();
+
+    @Test
+    void shouldCancelChunksInFlightWhenJoinedCallIsCancelled() {
+        val api = new GeocodeAsyncApiImpl(runner, GeocodeExtensionManager.from(emptyList()));
+
+        api.reverse(reverseOf(400)).cancel(true);
+
+        assertThat(runner.calls).hasSize(2).allSatisfy(call -> assertThat(call).isCancelled());
+    }
+
+    @Test
+    void shouldShrinkChunksOnceWhenFailedChunkCancelsSiblings() {
+        val api = new GeocodeAsyncApiImpl(
+                runner,
+                GeocodeExtensionManager.from(emptyList()),
+                GeocodeAsyncConfig.builder().adaptiveChunking(true).chunkRetries(0).build(),
+                emptyList()
+        );
+
+        val result = api.reverse(reverseOf(600));
+        runner.calls.get(0).completeExceptionally(new MapLinkHttpException(503, "text/plain", new byte[0]));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(runner.calls).hasSize(3).element(2).satisfies(call -> assertThat(call).isCancelled());
+        assertThat(api.getChunkSizer(ReverseRequest.class)).hasValueSatisfying(
+                sizer -> assertThat(sizer.getCurrentSize()).isEqualTo(ReverseRequest.ENTRY_LIMIT / 2)
+        );
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldApplyRequestTimeoutToEachChunkCall() {
+        runner.requestTimeout = Duration.ofMillis(50);
+        val api = new GeocodeAsyncApiImpl(
+                runner,
+                GeocodeExtensionManager.from(emptyList()),
+                GeocodeAsyncConfig.builder().maxInFlightChunks(1).build(),
+                emptyList()
+        );
+
+        val result = api.reverse(reverseOf(600));
+        for (int i = 0; i < 3; i++) {
+            TimeUnit.MILLISECONDS.sleep(30);
+            complete(runner.calls.get(i));
+        }
+
+        assertThat(result.get(1, TimeUnit.SECONDS).getFound()).isZero();
+        assertThat(runner.deadlines).hasSize(3).allSatisfy(deadline -> {
+            assertThat(deadline).isNotNull();
+            assertThat(deadline.getTimeout()).isEqualTo(Duration.ofMillis(50));
+        });
+    }
+
+    @Test
+    void shouldFailWholeBatchWhenBatchTimeoutExpires() {
+        runner.requestTimeout = Duration.ofSeconds(30);
+        val api = new GeocodeAsyncApiImpl(
+                runner,
+                GeocodeExtensionManager.from(emptyList()),
+                GeocodeAsyncConfig.builder().batchTimeout(Duration.ofMillis(50)).build(),
+                emptyList()
+        );
+
+        val result = api.reverse(reverseOf(400));
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(runner.calls).hasSize(2).allSatisfy(call -> assertThat(call).isCancelled());
+        assertThat(runner.deadlines).allSatisfy(deadline -> assertThat(deadline.getTimeout()).isEqualTo(Duration.ofMillis(50)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void complete(CompletableFuture<?> call) {
+        ((CompletableFuture<SuggestionsResult>) call).complete(SuggestionsResult.EMPTY);
+    }
+
+    private static ReverseRequest reverseOf(int entries) {
+        return ReverseRequest.of(range(0, entries).mapToObj(i -> entry(i, i)).collect(toList()));
+    }
+
+    private static class PendingRunner implements MapLinkServiceRequestAsyncRunner {
+
+        private final List<CompletableFuture<?>> calls = new CopyOnWriteArrayList<>();
+
+        private final List<Deadline> deadlines = new CopyOnWriteArrayList<>();
+
+        @Getter
+        private Duration requestTimeout;
+
+        @Override
+        public <T> CompletableFuture<T> run(MapLinkServiceRequest<T> request) {
+            val call = new CompletableFuture<T>();
+            calls.add(call);
+            return call;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> run(MapLinkServiceRequest<T> request, Deadline deadline) {
+            deadlines.add(deadline);
+            return run(request);
+        }
+
+        @Override
+        public Environment getEnvironment() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package global.maplink.geocode.async;
+
+import global.maplink.deadline.Deadline;
+import global.maplink.deadline.DeadlineExceededException;
+import global.maplink.http.exceptions.MapLinkHttpException;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WindowedFanOutTest {
+
+    private static final GeocodeAsyncConfig CONFIG = GeocodeAsyncConfig.builder()
+            .maxInFlightChunks(2)
+            .chunkRetries(2)
+            .chunkRetryDelay(Duration.ofMillis(1))
+            .build();
+
+    @Test
+    void shouldLimitChunksInFlightAndKeepOrder() {
+        val pending = new ArrayList<CompletableFuture<String>>();
+        val chunks = IntStream.range(0, 5).boxed().collect(Collectors.toList());
+
+        val result = new WindowedFanOut<Integer, String>(chunks, i -> {
+            val call = new CompletableFuture<String>();
+            pending.add(call);
+            return call;
+        }, CONFIG).run();
+
+        assertThat(pending).hasSize(2);
+        pending.get(1).complete("1");
+        assertThat(pending).hasSize(3);
+        pending.get(0).complete("0");
+        pending.get(2).complete("2");
+        pending.get(3).complete("3");
+        pending.get(4).complete("4");
+
+        assertThat(result.join()).containsExactly("0", "1", "2", "3", "4");
+    }
+
+    @Test
+    void shouldRetryThrottledChunks() throws Exception {
+        val calls = new AtomicInteger();
+
+        val result = new WindowedFanOut<Integer, String>(singletonList(1), i -> {
+            if (calls.incrementAndGet() < 3) {
+                return failed(new MapLinkHttpException(429, "text/plain", new byte[0]));
+            }
+            return completedFuture("ok");
+        }, CONFIG).run();
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).containsExactly("ok");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void shouldFailWhenChunkKeepsFailing() {
+        val calls = new AtomicInteger();
+
+        val result = new WindowedFanOut<Integer, String>(singletonList(1), i -> {
+            calls.incrementAndGet();
+            return failed(new MapLinkHttpException(400, "text/plain", new byte[0]));
+        }, CONFIG).run();
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MapLinkHttpException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldStreamChunksAsTheyComplete() {
+        val pending = new ArrayList<CompletableFuture<String>>();
+        val received = new ArrayList<String>();
+
+        val done = new WindowedFanOut<Integer, String>(singletonList(0), i -> {
+            val call = new CompletableFuture<String>();
+            pending.add(call);
+            return call;
+        }, CONFIG).stream(received::add);
+
+        assertThat(received).isEmpty();
+        pending.get(0).complete("0");
+
+        assertThat(received).containsExactly("0");
+        assertThat(done).isCompleted();
+    }
+
+    @Test
+    void shouldStreamInCompletionOrder() {
+        val pending = new ArrayList<CompletableFuture<String>>();
+        val received = new ArrayList<String>();
+        val chunks = IntStream.range(0, 3).boxed().collect(Collectors.toList());
+
+        val done = new WindowedFanOut<Integer, String>(chunks, i -> {
+            val call = new CompletableFuture<String>();
+            pending.add(call);
+            return call;
+        }, CONFIG).stream(received::add);
+
+        pending.get(1).complete("1");
+        pending.get(0).complete("0");
+        pending.get(2).complete("2");
+
+        assertThat(received).containsExactly("1", "0", "2");
+        assertThat(done).isCompleted();
+    }
+
+    @Test
+    void shouldCancelChunksInFlightWhenOneFails() {
+        val pending = new ArrayList<CompletableFuture<String>>();
+        val chunks = IntStream.range(0, 3).boxed().collect(Collectors.toList());
+
+        val result = new WindowedFanOut<Integer, String>(chunks, i -> {
+            val call = new CompletableFuture<String>();
+            pending.add(call);
+            return call;
+        }, CONFIG).run();
+
+        pending.get(0).completeExceptionally(new MapLinkHttpException(400, "text/plain", new byte[0]));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(pending).hasSize(2);
+        assertThat(pending.get(1)).isCancelled();
+    }
+
+    @Test
+    void shouldCancelChunksInFlightWhenStreamIsCancelled() {
+        val pending = new ArrayList<CompletableFuture<String>>();
+        val chunks = IntStream.range(0, 3).boxed().collect(Collectors.toList());
+
+        val done = new WindowedFanOut<Integer, String>(chunks, i -> {
+            val call = new CompletableFuture<String>();
+            pending.add(call);
+            return call;
+        }, CONFIG).stream(r -> {
+        });
+
+        done.cancel(true);
+
+        assertThat(pending).hasSize(2);
+        assertThat(pending).allSatisfy(call -> assertThat(call).isCancelled());
+    }
+
+    @Test
+    void shouldFailAndCancelChunksWhenDeadlineExpires() {
+        val pending = new ArrayList<CompletableFuture<String>>();
+        val chunks = IntStream.range(0, 3).boxed().collect(Collectors.toList());
+
+        val result = new WindowedFanOut<Integer, String>(chunks, i -> {
+            val call = new CompletableFuture<String>();
+            pending.add(call);
+            return call;
+        }, CONFIG, Deadline.after(Duration.ofMillis(50))).run();
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(pending).hasSize(2);
+        assertThat(pending).allSatisfy(call -> assertThat(call).isCancelled());
+    }
+
+    @Test
+    void shouldNotRetryPastTheDeadline() throws Exception {
+        val calls = new AtomicInteger();
+        val slowRetries = GeocodeAsyncConfig.builder()
+                .chunkRetries(2)
+                .chunkRetryDelay(Duration.ofSeconds(10))
+                .build();
+
+        val result = new WindowedFanOut<Integer, String>(singletonList(1), i -> {
+            calls.incrementAndGet();
+            return failed(new MapLinkHttpException(503, "text/plain", new byte[0]));
+        }, slowRetries, Deadline.after(Duration.ofSeconds(1))).run();
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MapLinkHttpException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    private static CompletableFuture<String> failed(Throwable error) {
+        val future = new CompletableFuture<String>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
@@ -0,0 +1,68 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.structured.StructuredRequest;
+import global.maplink.geocode.schema.suggestions.Suggestion;
+import global.maplink.geocode.schema.suggestions.SuggestionsRequest;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeocodeCacheExtensionTest {
+
+    @Test
+    void shouldShareCacheBetweenEquivalentSuggestionQueries() {
+        val calls = new AtomicInteger();
+        val extension = new SuggestionsCacheExtension(new GeocodeResponseCache());
+
+        extension.doRequest(SuggestionsRequest.builder().query("Av Paulista  1000").build(), r -> {
+            calls.incrementAndGet();
+            return completedFuture(SuggestionsResult.EMPTY);
+        }).join();
+        extension.doRequest(SuggestionsRequest.builder().query(" av paulista 1000").build(), r -> {
+            calls.incrementAndGet();
+            return completedFuture(SuggestionsResult.EMPTY);
+        }).join();
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldKeepRequestIdOnCachedStructuredResults() {
+        val calls = new AtomicInteger();
+        val extension = new StructuredCacheExtension(new GeocodeResponseCache());
+
+        extension.doRequest(StructuredRequest.ofCity("first", "São Paulo", "SP"), r -> {
+            calls.incrementAndGet();
+            return completedFuture(new SuggestionsResult(1, singletonList(Suggestion.builder().id("first").build())));
+        }).join();
+        val cached = extension.doRequest(StructuredRequest.ofCity("second", "São Paulo", "SP"), r -> {
+            calls.incrementAndGet();
+            return completedFuture(SuggestionsResult.EMPTY);
+        }).join();
+
+        assertThat(calls).hasValue(1);
+        assertThat(cached.getById("second")).isPresent();
+    }
+
+    @Test
+    void shouldNotCacheMultiStructuredRequests() {
+        val calls = new AtomicInteger();
+        val extension = new StructuredCacheExtension(new GeocodeResponseCache());
+        val request = StructuredRequest.multi(StructuredRequest.ofState("1", "SP"));
+
+        for (int i = 0; i < 2; i++) {
+            extension.doRequest(request, r -> {
+                calls.incrementAndGet();
+                return completedFuture(SuggestionsResult.EMPTY);
+            }).join();
+        }
+
+        assertThat(calls).hasValue(2);
+    }
+}
@@ -0,0 +1,104 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeocodeResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldReturnCachedResultUntilTtlExpires() {
+        val cache = new GeocodeResponseCache(10, Duration.ofNanos(100), now::get);
+
+        cache.get("key", this::load).join();
+        cache.get("key", this::load).join();
+        assertThat(loads).hasValue(1);
+
+        now.addAndGet(100);
+        cache.get("key", this::load).join();
+        assertThat(loads).hasValue(2);
+
+        val stats = cache.getStats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        val cache = new GeocodeResponseCache(2, Duration.ofHours(1), now::get);
+
+        cache.get("a", this::load).join();
+        cache.get("b", this::load).join();
+        cache.get("a", this::load).join();
+        cache.get("c", this::load).join();
+        cache.get("a", this::load).join();
+        cache.get("b", this::load).join();
+
+        assertThat(loads).hasValue(4);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(2);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentLoads() {
+        val cache = new GeocodeResponseCache(10, Duration.ofHours(1), now::get);
+        val pending = new CompletableFuture<SuggestionsResult>();
+
+        val first = cache.get("key", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        val second = cache.get("key", this::load);
+
+        assertThat(loads).hasValue(1);
+        pending.complete(SuggestionsResult.EMPTY);
+        assertThat(first.join()).isSameAs(second.join());
+        assertThat(cache.getStats().getCoalesced()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepCoalescedLoadWhenFirstCallerCancels() {
+        val cache = new GeocodeResponseCache(10, Duration.ofHours(1), now::get);
+        val pending = new CompletableFuture<SuggestionsResult>();
+
+        val first = cache.get("key", () -> pending);
+        val second = cache.get("key", this::load);
+        first.cancel(true);
+        pending.complete(SuggestionsResult.EMPTY);
+
+        assertThat(second.join()).isSameAs(SuggestionsResult.EMPTY);
+        assertThat(cache.get("key", this::load).join()).isSameAs(SuggestionsResult.EMPTY);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        val cache = new GeocodeResponseCache(10, Duration.ofHours(1), now::get);
+        val failed = new CompletableFuture<SuggestionsResult>();
+        failed.completeExceptionally(new IllegalStateException());
+
+        cache.get("key", () -> failed);
+        cache.get("key", this::load).join();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats().getMisses()).isEqualTo(2);
+    }
+
+    private CompletableFuture<SuggestionsResult> load() {
+        loads.incrementAndGet();
+        return completedFuture(new SuggestionsResult(0, emptyList()));
+    }
+}
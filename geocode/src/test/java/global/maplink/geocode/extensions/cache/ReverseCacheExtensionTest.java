@@ -0,0 +1,87 @@
+package global.maplink.geocode.extensions.cache;
+
+import global.maplink.geocode.schema.reverse.ReverseRequest;
+import global.maplink.geocode.schema.suggestions.Suggestion;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReverseCacheExtensionTest {
+
+    private final List<ReverseRequest> sent = new ArrayList<>();
+
+    @Test
+    void shouldOnlySendMissingCellsAndKeepOriginalOrder() {
+        val extension = new ReverseCacheExtension(new GeocodeResponseCache(), 8);
+
+        extension.doRequest(ReverseRequest.of(asList(
+                ReverseRequest.entry("yard", -23.5489, -46.6388)
+        )), this::answer).join();
+
+        val result = extension.doRequest(ReverseRequest.of(asList(
+                ReverseRequest.entry("a", -23.0, -46.0),
+                ReverseRequest.entry("b", -23.54890001, -46.63880001),
+                ReverseRequest.entry("c", -23.00000001, -46.00000001)
+        )), this::answer).join();
+
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(1).getEntries()).hasSize(1);
+        assertThat(result.stream().map(Suggestion::getId).collect(toList())).containsExactly("a", "b", "c");
+        assertThat(result.stream().map(Suggestion::getLabel).collect(toList()))
+                .containsExactly("-23.0", "-23.5489", "-23.0");
+    }
+
+    @Test
+    void shouldNotCallApiWhenAllCellsAreCached() {
+        val extension = new ReverseCacheExtension(new GeocodeResponseCache());
+        val request = ReverseRequest.of(asList(ReverseRequest.entry("a", -23.0, -46.0)));
+
+        extension.doRequest(request, this::answer).join();
+        val result = extension.doRequest(request, this::answer).join();
+
+        assertThat(sent).hasSize(1);
+        assertThat(result.getById("a")).isPresent();
+        assertThat(extension.getCache().getStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropDistanceOfSuggestionsResolvedForAnotherPoint() {
+        val extension = new ReverseCacheExtension(new GeocodeResponseCache(), 8);
+
+        val first = extension.doRequest(ReverseRequest.of(asList(
+                ReverseRequest.entry("a", -23.5489, -46.6388),
+                ReverseRequest.entry("b", -23.54890001, -46.63880001)
+        )), this::answer).join();
+        val second = extension.doRequest(ReverseRequest.of(asList(
+                ReverseRequest.entry("c", -23.5489, -46.6388)
+        )), this::answer).join();
+
+        assertThat(first.getById("a").map(Suggestion::getDistance)).contains(12.0);
+        assertThat(first.getById("b").map(Suggestion::getDistance)).isEmpty();
+        assertThat(second.getById("c").map(Suggestion::getDistance)).isEmpty();
+    }
+
+    @Test
+    void shouldBeRegisteredInCacheCatalog() {
+        val catalog = new GeocodeCacheExtensionCatalog();
+
+        assertThat(catalog.getAll()).anySatisfy(e -> assertThat(e).isInstanceOf(ReverseCacheExtension.class));
+    }
+
+    private CompletableFuture<SuggestionsResult> answer(ReverseRequest request) {
+        sent.add(request);
+        val suggestions = request.getEntries().stream()
+                .map(e -> Suggestion.builder().id(e.getId()).label(e.getLat().toString()).distance(12.0).build())
+                .collect(toList());
+        return completedFuture(new SuggestionsResult(suggestions.size(), suggestions));
+    }
+}
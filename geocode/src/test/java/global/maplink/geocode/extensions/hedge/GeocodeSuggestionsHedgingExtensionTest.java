@@ -0,0 +1,137 @@
+package global.maplink.geocode.extensions.hedge;
+
+import global.maplink.geocode.schema.suggestions.SuggestionsRequest;
+import global.maplink.geocode.schema.suggestions.SuggestionsResult;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeocodeSuggestionsHedgingExtensionTest {
+
+    private static final SuggestionsRequest REQUEST = SuggestionsRequest.builder().query("rua").build();
+
+    private static final SuggestionsResult RESULT = new SuggestionsResult(1, emptyList());
+
+    @Test
+    @SneakyThrows
+    void shouldSendHedgeWhenOriginalIsSlowAndCancelLoser() {
+        val extension = new GeocodeSuggestionsHedgingExtension(config(1, 10));
+        val calls = new ArrayList<CompletableFuture<SuggestionsResult>>();
+
+        val result = extension.doRequest(REQUEST, r -> {
+            synchronized (calls) {
+                val call = calls.isEmpty() ? new CompletableFuture<SuggestionsResult>() : completedFuture(RESULT);
+                calls.add(call);
+                return call;
+            }
+        }).get(1, TimeUnit.SECONDS);
+
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertThat(result).isSameAs(RESULT);
+        assertThat(extension.getHedgedCount()).isEqualTo(1);
+        assertThat(calls).hasSize(2);
+        assertThat(calls.get(0)).isCancelled();
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldNotHedgeFastResponses() {
+        val extension = new GeocodeSuggestionsHedgingExtension(config(50, 10));
+        List<SuggestionsRequest> calls = new ArrayList<>();
+
+        val result = extension.doRequest(REQUEST, r -> {
+            calls.add(r);
+            return completedFuture(RESULT);
+        }).get(1, TimeUnit.SECONDS);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(result).isSameAs(RESULT);
+        assertThat(calls).hasSize(1);
+        assertThat(extension.getHedgedCount()).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldRespectHedgeBudget() {
+        val extension = new GeocodeSuggestionsHedgingExtension(config(1, 0));
+        val original = new CompletableFuture<SuggestionsResult>();
+
+        val result = extension.doRequest(REQUEST, r -> original);
+        TimeUnit.MILLISECONDS.sleep(50);
+        original.complete(RESULT);
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(extension.getHedgedCount()).isZero();
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldSampleLatencyOfPrimaryWhenHedgeWins() {
+        val extension = new GeocodeSuggestionsHedgingExtension(HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(30))
+                .minDelay(Duration.ZERO)
+                .minSamples(1)
+                .percentile(1)
+                .build());
+        val calls = new ArrayList<CompletableFuture<SuggestionsResult>>();
+
+        extension.doRequest(REQUEST, r -> {
+            synchronized (calls) {
+                val call = calls.isEmpty() ? new CompletableFuture<SuggestionsResult>() : completedFuture(RESULT);
+                calls.add(call);
+                return call;
+            }
+        }).get(1, TimeUnit.SECONDS);
+
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertThat(extension.getHedgedCount()).isEqualTo(1);
+        assertThat(extension.getHedgeDelayMillis()).isGreaterThanOrEqualTo(30);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldCancelAttemptsAndHedgeWhenResultIsCancelled() {
+        val extension = new GeocodeSuggestionsHedgingExtension(config(50, 10));
+        val calls = new ArrayList<CompletableFuture<SuggestionsResult>>();
+
+        extension.doRequest(REQUEST, r -> {
+            synchronized (calls) {
+                val call = new CompletableFuture<SuggestionsResult>();
+                calls.add(call);
+                return call;
+            }
+        }).cancel(true);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(calls).singleElement().satisfies(call -> assertThat(call).isCancelled());
+        assertThat(extension.getHedgedCount()).isZero();
+    }
+
+    @Test
+    void shouldUsePercentileOfObservedLatencies() {
+        val tracker = new LatencyTracker(100, 0.9);
+        for (int i = 1; i <= 100; i++) {
+            tracker.record(i);
+        }
+        assertThat(tracker.percentile()).isEqualTo(90);
+    }
+
+    private static HedgingConfig config(long initialDelayMillis, int burst) {
+        return HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(initialDelayMillis))
+                .minDelay(Duration.ofMillis(1))
+                .maxHedgeRatio(0)
+                .maxHedgeBurst(burst)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package global.maplink.http;
+
+import global.maplink.helpers.VirtualThreadHelper;
+import lombok.Builder;
+import lombok.Value;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import static java.net.http.HttpClient.Version.HTTP_2;
+
+@Value
+@Builder
+public class HttpAsyncEngineJava11Config {
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    Executor executor;
+
+    // Completes exchanges on virtual threads (Java 21+) when no executor is set
+    boolean virtualThreads;
+
+    @Builder.Default
+    Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    Duration requestTimeout;
+
+    @Builder.Default
+    HttpClient.Version version = HTTP_2;
+
+    // Response bodies are parsed while bytes arrive instead of being buffered in a byte[]
+    boolean streamResponses;
+
+    // Completes streamed responses, parsing blocks it reading the body the client executor delivers.
+    // A shared cached pool is used when not set, it must never be the client executor.
+    Executor streamedResponsesExecutor;
+
+    public static HttpAsyncEngineJava11Config defaults() {
+        return builder().build();
+    }
+
+    HttpClient buildClient() {
+        var builder = HttpClient.newBuilder().version(version);
+        if (connectTimeout != null)
+            builder.connectTimeout(connectTimeout);
+        if (executor != null)
+            builder.executor(executor);
+        else if (virtualThreads)
+            builder.executor(VirtualThreadHelper.newVirtualThreadPerTaskExecutor());
+        return builder.build();
+    }
+}
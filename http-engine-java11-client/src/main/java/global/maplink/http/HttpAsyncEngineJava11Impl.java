@@ -1,21 +1,33 @@
 package global.maplink.http;
 
 import global.maplink.MapLinkSDK;
+import global.maplink.deadline.Deadline;
 import global.maplink.http.request.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.val;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static global.maplink.helpers.SchedulerHelper.daemonThreadFactory;
 import static java.net.http.HttpClient.Version.HTTP_1_1;
 
 public class HttpAsyncEngineJava11Impl implements HttpAsyncEngine {
@@ -25,13 +37,34 @@ public class HttpAsyncEngineJava11Impl implements HttpAsyncEngine {
 
     public static final String HTTP = "http";
 
-    private final HttpClient client = HttpClient.newHttpClient();
+    private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+    private final HttpClient client;
+
+    private final Duration requestTimeout;
+
+    private final boolean streamResponses;
+
+    private final Executor streamedResponsesExecutor;
 
     @Getter
     @Setter
     @Accessors(chain = true)
     private String userAgent = null;
 
+    public HttpAsyncEngineJava11Impl() {
+        this(HttpAsyncEngineJava11Config.defaults());
+    }
+
+    public HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config config) {
+        client = config.buildClient();
+        requestTimeout = config.getRequestTimeout();
+        streamResponses = config.isStreamResponses();
+        streamedResponsesExecutor = !streamResponses || config.getStreamedResponsesExecutor() != null
+                ? config.getStreamedResponsesExecutor()
+                : StreamedResponsesHolder.INSTANCE;
+    }
+
     @Override
     public void initialize(MapLinkSDK sdk) {
         userAgent = String.format("%s (%s)", sdk.getUserAgent().getHeaderContent(), "HttpAsyncEngineJava11");
@@ -39,9 +72,29 @@ public class HttpAsyncEngineJava11Impl implements HttpAsyncEngine {
 
     @Override
     public CompletableFuture<Response> run(Request request) {
-        if (request instanceof GetRequest) return runWithoutBody(request, HttpRequest.Builder::GET);
-        if (request instanceof PostRequest) return runWithBody((PostRequest) request, HttpRequest.Builder::POST);
-        if (request instanceof PutRequest) return runWithBody((PutRequest) request, HttpRequest.Builder::PUT);
+        return send(buildRequest(request));
+    }
+
+    @Override
+    public Response runBlocking(Request request) {
+        val req = buildRequest(request);
+        try {
+            if (streamResponses) {
+                return translateStreamedResponse(client.send(req, BodyHandlers.ofInputStream()));
+            }
+            return translateResponse(client.send(req, BodyHandlers.ofByteArray()));
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private HttpRequest buildRequest(Request request) {
+        if (request instanceof GetRequest) return buildWithoutBody(request, HttpRequest.Builder::GET);
+        if (request instanceof PostRequest) return buildWithBody((PostRequest) request, HttpRequest.Builder::POST);
+        if (request instanceof PutRequest) return buildWithBody((PutRequest) request, HttpRequest.Builder::PUT);
 
         throw new UnsupportedOperationException(String.format(
                 "Tipo de requisição %s não é reconhecida",
@@ -59,37 +112,101 @@ public class HttpAsyncEngineJava11Impl implements HttpAsyncEngine {
         if (HTTP.equals(request.getUrl().getProtocol()))
             builder.version(HTTP_1_1);
 
+        val timeout = timeoutOf(Deadline.current());
+        if (timeout != null)
+            builder.timeout(timeout);
+
         return builder;
     }
 
+    private Duration timeoutOf(Deadline deadline) {
+        if (deadline == null)
+            return requestTimeout;
+        val remaining = Duration.ofNanos(Math.max(MIN_TIMEOUT.toNanos(), deadline.remainingNanos()));
+        return requestTimeout == null || remaining.compareTo(requestTimeout) < 0 ? remaining : requestTimeout;
+    }
+
     private Response translateResponse(HttpResponse<byte[]> response) {
         return new Response(
                 response.statusCode(),
-                response.headers().firstValue(HEADER_CONTENT_TYPE).orElse(MediaType.Text.PLAIN),
-                response.body()
+                contentTypeOf(response),
+                response.body(),
+                headersOf(response)
         );
     }
 
-    private CompletableFuture<Response> runWithoutBody(
+    private Response translateStreamedResponse(HttpResponse<InputStream> response) {
+        return new StreamedResponse(
+                response.statusCode(),
+                contentTypeOf(response),
+                response.body(),
+                headersOf(response)
+        );
+    }
+
+    private String contentTypeOf(HttpResponse<?> response) {
+        return response.headers().firstValue(HEADER_CONTENT_TYPE).orElse(MediaType.Text.PLAIN);
+    }
+
+    private Map<String, String> headersOf(HttpResponse<?> response) {
+        Map<String, String> headers = new HashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!values.isEmpty()) headers.put(name, values.get(0));
+        });
+        return headers;
+    }
+
+    private CompletableFuture<Response> send(HttpRequest request) {
+        if (streamResponses) {
+            // Headers arrive before the body, parsing must not block the client executor that delivers it
+            return cancellable(
+                    client.sendAsync(request, BodyHandlers.ofInputStream()),
+                    this::translateStreamedResponse,
+                    streamedResponsesExecutor
+            );
+        }
+        return cancellable(
+                client.sendAsync(request, BodyHandlers.ofByteArray()),
+                this::translateResponse,
+                null
+        );
+    }
+
+    private static <T> CompletableFuture<Response> cancellable(
+            CompletableFuture<HttpResponse<T>> exchange,
+            Function<HttpResponse<T>, Response> translator,
+            Executor executor
+    ) {
+        val response = executor == null ? exchange.thenApply(translator) : exchange.thenApplyAsync(translator, executor);
+        // Dependent stages don't propagate cancellation, the exchange is cancelled to abort the request
+        response.whenComplete((r, e) -> {
+            if (e instanceof CancellationException) {
+                exchange.cancel(true);
+            }
+        });
+        return response;
+    }
+
+    private HttpRequest buildWithoutBody(
             Request request,
             Function<HttpRequest.Builder, HttpRequest.Builder> httpVerb
     ) {
-        val req = httpVerb.apply(buildBaseRequest(request))
+        return httpVerb.apply(buildBaseRequest(request))
                 .build();
-        return client
-                .sendAsync(req, BodyHandlers.ofByteArray())
-                .thenApply(this::translateResponse);
     }
 
-    private CompletableFuture<Response> runWithBody(
+    private HttpRequest buildWithBody(
             WithBodyRequest request,
             BiFunction<HttpRequest.Builder, HttpRequest.BodyPublisher, HttpRequest.Builder> httpVerb
     ) {
-        val req = httpVerb.apply(buildBaseRequest(request), BodyPublishers.ofByteArray(request.getBody()))
+        return httpVerb.apply(buildBaseRequest(request), BodyPublishers.ofByteArray(request.getBody()))
                 .build();
-        return client
-                .sendAsync(req, BodyHandlers.ofByteArray())
-                .thenApply(this::translateResponse);
+    }
+
+    private static class StreamedResponsesHolder {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+                daemonThreadFactory("maplink-sdk-streamed-responses")
+        );
     }
 
 }
@@ -2,8 +2,11 @@ package global.maplink.http;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import global.maplink.deadline.Deadline;
+import global.maplink.helpers.VirtualThreadHelper;
 import global.maplink.http.request.Request;
 import global.maplink.http.request.RequestBody;
+import global.maplink.json.JsonMapper;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.AfterAll;
@@ -12,14 +15,26 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.net.URL;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.allRequests;
 import static global.maplink.helpers.FutureHelper.await;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class HttpAsyncEngineJava11ImplTest {
 
@@ -79,6 +94,125 @@ public class HttpAsyncEngineJava11ImplTest {
         wireMockServer.stop();
     }
 
+    @Test
+    @SneakyThrows
+    void shouldFailWhenRequestTimeoutIsReached() {
+        wireMockServer.stubFor(get("/slow").willReturn(ok().withFixedDelay(1000)));
+        val engine = new HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config.builder()
+                .requestTimeout(Duration.ofMillis(100))
+                .build());
+        val result = engine.run(Request.get(new URL(wireMockServer.baseUrl() + "/slow")));
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldUseConfiguredExecutor() {
+        val executions = new AtomicInteger();
+        val executor = Executors.newSingleThreadExecutor();
+        try {
+            val engine = new HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config.builder()
+                    .executor(task -> {
+                        executions.incrementAndGet();
+                        executor.execute(task);
+                    })
+                    .build());
+            val result = engine.run(Request.post(new URL(wireMockServer.baseUrl()), RequestBody.Json.of("{}")));
+
+            assertThat(result.get()).isNotNull();
+            assertThat(executions).hasPositiveValue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldStreamResponseBodyWhenConfigured() {
+        wireMockServer.stubFor(get("/stream").willReturn(ok().withBody("{\"name\":\"test\"}")));
+        val engine = new HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config.builder()
+                .streamResponses(true)
+                .build());
+        val result = engine.run(Request.get(new URL(wireMockServer.baseUrl() + "/stream"))).get();
+
+        assertThat(result).isInstanceOf(StreamedResponse.class);
+        assertThat(result.parseBodyObject(new SampleJsonMapper(), String.class)).isEqualTo("{\"name\":\"test\"}");
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldParseStreamedResponsesWithoutBlockingTheClientExecutor() {
+        wireMockServer.stubFor(get("/dribble").willReturn(ok()
+                .withBody("{\"name\":\"test\"}")
+                .withChunkedDribbleDelay(4, 200)));
+        val clientExecutor = Executors.newSingleThreadExecutor();
+        try {
+            val engine = new HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config.builder()
+                    .executor(clientExecutor)
+                    .streamResponses(true)
+                    .build());
+            val result = engine.run(Request.get(new URL(wireMockServer.baseUrl() + "/dribble")))
+                    .thenApply(response -> response.parseBodyObject(new SampleJsonMapper(), String.class));
+
+            assertThat(result.get(5, SECONDS)).isEqualTo("{\"name\":\"test\"}");
+        } finally {
+            clientExecutor.shutdown();
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldRunBlockingRequests() {
+        wireMockServer.stubFor(get("/blocking").willReturn(ok().withBody("{}")));
+        val engine = new HttpAsyncEngineJava11Impl();
+        val result = engine.runBlocking(Request.get(new URL(wireMockServer.baseUrl() + "/blocking")));
+
+        assertThat(result.isOk()).isTrue();
+        assertThat(result.parseBodyObject(new SampleJsonMapper(), String.class)).isEqualTo("{}");
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldLimitRequestTimeoutToCurrentDeadline() {
+        wireMockServer.stubFor(get("/slow").willReturn(ok().withFixedDelay(1000)));
+        val engine = new HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config.builder()
+                .requestTimeout(Duration.ofSeconds(30))
+                .build());
+        val request = Request.get(new URL(wireMockServer.baseUrl() + "/slow"));
+
+        assertThatThrownBy(() -> Deadline.runWith(Duration.ofMillis(100), () -> engine.runBlocking(request)))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    @SneakyThrows
+    void shouldRunOnVirtualThreadsWhenSupported() {
+        assumeTrue(VirtualThreadHelper.isSupported());
+        wireMockServer.stubFor(get("/virtual").willReturn(ok().withBody("{}")));
+        val engine = new HttpAsyncEngineJava11Impl(HttpAsyncEngineJava11Config.builder()
+                .virtualThreads(true)
+                .build());
+        val request = Request.get(new URL(wireMockServer.baseUrl() + "/virtual"));
+
+        assertThat(engine.run(request).get().isOk()).isTrue();
+        assertThat(engine.runBlocking(request).isOk()).isTrue();
+    }
+
+    @Test
+    void shouldRejectVirtualThreadsWhenUnsupported() {
+        assumeFalse(VirtualThreadHelper.isSupported());
+        val config = HttpAsyncEngineJava11Config.builder()
+                .virtualThreads(true)
+                .build();
+
+        assertThatThrownBy(() -> new HttpAsyncEngineJava11Impl(config))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void mustBeAccessibleByLoadDefault() {
         HttpAsyncEngine engine = HttpAsyncEngine.loadDefault();
@@ -103,6 +237,25 @@ public class HttpAsyncEngineJava11ImplTest {
                 .isInstanceOf(UnsupportedOperationException.class);
     }
 
+    private static class SampleJsonMapper implements JsonMapper {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T fromJson(byte[] data, Class<T> type) {
+            return (T) new String(data, UTF_8);
+        }
+
+        @Override
+        public <T> List<T> fromJsonList(byte[] data, Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> byte[] toJson(T object) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private static class UnknownRequest extends Request {
 
         public UnknownRequest(URL url) {
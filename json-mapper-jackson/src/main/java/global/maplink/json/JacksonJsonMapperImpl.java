@@ -3,26 +3,45 @@ package global.maplink.json;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import global.maplink.domain.PointsMode;
+import global.maplink.domain.PolylinePrecision;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static com.fasterxml.jackson.databind.DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS;
 
 public class JacksonJsonMapperImpl implements JsonMapper {
 
-    private final ObjectMapper mapper = new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .registerModule(new MaplinkSdkModule())
-            .setSerializationInclusion(JsonInclude.Include.NON_ABSENT)
-            .disable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
-            .disable(READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
-            .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-            .disable(FAIL_ON_UNKNOWN_PROPERTIES);
+    private final ObjectMapper mapper;
+
+    private final Map<PointsMode, ObjectWriter> writers = new EnumMap<>(PointsMode.class);
+
+    public JacksonJsonMapperImpl() {
+        this(PolylinePrecision.loadDefault());
+    }
+
+    public JacksonJsonMapperImpl(PolylinePrecision polylinePrecision) {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new MaplinkSdkModule(polylinePrecision))
+                .setSerializationInclusion(JsonInclude.Include.NON_ABSENT)
+                .disable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .disable(READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(FAIL_ON_UNKNOWN_PROPERTIES);
+        for (PointsMode mode : PointsMode.values()) {
+            writers.put(mode, mapper.writer().withAttribute(PointsMode.class, mode));
+        }
+    }
 
     @Override
     public <T> T fromJson(byte[] data, Class<T> type) {
@@ -33,6 +52,15 @@ public class JacksonJsonMapperImpl implements JsonMapper {
         }
     }
 
+    @Override
+    public <T> T fromJson(InputStream data, Class<T> type) {
+        try {
+            return mapper.readValue(data, type);
+        } catch (IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
     @Override
     public <T> List<T> fromJsonList(byte[] data, Class<T> type) {
         try {
@@ -43,10 +71,20 @@ public class JacksonJsonMapperImpl implements JsonMapper {
         }
     }
 
+    @Override
+    public <T> List<T> fromJsonList(InputStream data, Class<T> type) {
+        try {
+            CollectionType collectionType = mapper.getTypeFactory().constructCollectionType(List.class, type);
+            return mapper.readValue(data, collectionType);
+        } catch (IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
     @Override
     public <T> byte[] toJson(T object) {
         try {
-            return mapper.writeValueAsBytes(object);
+            return writers.get(PointsMode.current()).writeValueAsBytes(object);
         } catch (JsonProcessingException e) {
             throw new JsonException(e);
         }
@@ -1,6 +1,7 @@
 package global.maplink.json;
 
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import global.maplink.domain.PolylinePrecision;
 import global.maplink.json.codecs.MaplinkPointJacksonCodec;
 import global.maplink.json.codecs.MaplinkPointsJacksonCodec;
 import global.maplink.json.codecs.MlpJacksonCodec;
@@ -8,8 +9,12 @@ import global.maplink.json.codecs.MlpJacksonCodec;
 public class MaplinkSdkModule extends SimpleModule {
 
     public MaplinkSdkModule() {
+        this(PolylinePrecision.loadDefault());
+    }
+
+    public MaplinkSdkModule(PolylinePrecision polylinePrecision) {
         this(
-                new MaplinkPointsJacksonCodec(),
+                new MaplinkPointsJacksonCodec(polylinePrecision),
                 new MaplinkPointJacksonCodec()
         );
     }
@@ -2,15 +2,14 @@ package global.maplink.json.codecs;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.*;
 import global.maplink.domain.MaplinkPoint;
-import global.maplink.domain.PointsMode;
 import global.maplink.http.request.RequestBody;
 
 import java.io.IOException;
-import java.util.Map;
 
-import static java.lang.Double.parseDouble;
+import static global.maplink.json.codecs.SimplePointFormat.*;
 import static java.lang.String.format;
 import static java.util.Locale.ENGLISH;
 
@@ -32,7 +31,7 @@ public class MaplinkPointJacksonCodec extends MlpJacksonCodec<MaplinkPoint> {
                 JsonGenerator jgen,
                 SerializerProvider provider
         ) throws IOException {
-            switch (PointsMode.current()) {
+            switch (pointsModeOf(provider)) {
                 case SIMPLE:
                     serializeAsSimple(value, jgen);
                     break;
@@ -50,8 +49,16 @@ public class MaplinkPointJacksonCodec extends MlpJacksonCodec<MaplinkPoint> {
         }
 
         private void serializeAsSimple(MaplinkPoint value, JsonGenerator jgen) throws IOException {
+            double latitude = value.getLatitude();
+            double longitude = value.getLongitude();
             jgen.writeStartObject();
-            jgen.writeStringField(FIELD_POINT, format(ENGLISH, "%.7f,%7f", value.getLatitude(), value.getLongitude()));
+            jgen.writeFieldName(FIELD_POINT);
+            if (isFast(latitude) && isFast(longitude)) {
+                char[] buffer = newBuffer();
+                jgen.writeString(buffer, 0, write(latitude, longitude, buffer));
+            } else {
+                jgen.writeString(format(ENGLISH, "%.7f,%.7f", latitude, longitude));
+            }
             jgen.writeEndObject();
         }
 
@@ -86,6 +93,7 @@ public class MaplinkPointJacksonCodec extends MlpJacksonCodec<MaplinkPoint> {
                 case START_ARRAY:
                     return deserializeArray(parser);
                 case START_OBJECT:
+                case FIELD_NAME:
                     return deserializeObjectOrSimple(parser);
                 default:
                     return null;
@@ -103,26 +111,58 @@ public class MaplinkPointJacksonCodec extends MlpJacksonCodec<MaplinkPoint> {
         }
 
         private MaplinkPoint deserializeObjectOrSimple(JsonParser parser) throws IOException {
-            JsonNode node = parser.readValueAsTree();
-            if (node.has(FIELD_POINT)) {
-                String value = node.get(FIELD_POINT).asText();
-                String[] coordinates = value.split(",");
-
-                if (coordinates.length != 2) {
-                    throw new IllegalArgumentException("Invalid point format [" + value + "], expected [lat,long]");
+            double latitude = Double.NaN;
+            double longitude = Double.NaN;
+            boolean hasLatitude = false;
+            boolean hasLongitude = false;
+            JsonToken token = parser.currentToken() == JsonToken.START_OBJECT ? parser.nextToken() : parser.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (FIELD_POINT.equals(field)) {
+                    MaplinkPoint point = deserializeSimple(parser);
+                    skipToEndObject(parser);
+                    return point;
+                } else if (FIELD_LATITUDE.equals(field)) {
+                    latitude = parser.getValueAsDouble();
+                    hasLatitude = true;
+                } else if (FIELD_LONGITUDE.equals(field)) {
+                    longitude = parser.getValueAsDouble();
+                    hasLongitude = true;
+                } else {
+                    parser.skipChildren();
                 }
+            }
 
-                return new MaplinkPoint(
-                        parseDouble(coordinates[0]),
-                        parseDouble(coordinates[1])
-                );
+            if (!hasLatitude || !hasLongitude) {
+                throw new IllegalArgumentException("Invalid point, expected [latitude] and [longitude] fields");
+            }
+            return new MaplinkPoint(latitude, longitude);
+        }
+
+        private MaplinkPoint deserializeSimple(JsonParser parser) throws IOException {
+            if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                throw new IllegalArgumentException("Invalid point format [" + parser.getText() + "], expected [lat,long]");
+            }
+            char[] text = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            int separator = indexOfSeparator(text, offset, length);
+            if (separator < 0 || indexOfSeparator(text, separator + 1, offset + length - separator - 1) >= 0) {
+                throw new IllegalArgumentException("Invalid point format [" + parser.getText() + "], expected [lat,long]");
             }
 
             return new MaplinkPoint(
-                node.get(FIELD_LATITUDE).asDouble(),
-                node.get(FIELD_LONGITUDE).asDouble()
+                    parseCoordinate(text, offset, separator),
+                    parseCoordinate(text, separator + 1, offset + length)
             );
+        }
 
+        private void skipToEndObject(JsonParser parser) throws IOException {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                parser.nextToken();
+                parser.skipChildren();
+            }
         }
 
     }
@@ -6,35 +6,51 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import global.maplink.domain.GeohashCodec;
 import global.maplink.domain.MaplinkPoint;
 import global.maplink.domain.MaplinkPoints;
-import global.maplink.domain.PointsMode;
+import global.maplink.domain.PolylinePrecision;
+import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
 
+import static global.maplink.domain.MaplinkPoint.DEFAULT_GEOHASH_SIZE;
 import static java.util.Objects.isNull;
 
 public class MaplinkPointsJacksonCodec extends MlpJacksonCodec<MaplinkPoints> {
 
     public MaplinkPointsJacksonCodec() {
-        super(MaplinkPoints.class, new Serializer(), new Deserializer());
+        this(PolylinePrecision.loadDefault());
     }
 
+    public MaplinkPointsJacksonCodec(PolylinePrecision precision) {
+        super(MaplinkPoints.class, new Serializer(precision), new Deserializer(precision));
+    }
+
+    @RequiredArgsConstructor
     public static class Serializer extends JsonSerializer<MaplinkPoints> {
 
+        private final PolylinePrecision precision;
+
+        public Serializer() {
+            this(PolylinePrecision.loadDefault());
+        }
+
         @Override
         public void serialize(
                 MaplinkPoints value,
                 JsonGenerator jgen,
                 SerializerProvider provider
         ) throws IOException {
-            switch (PointsMode.current()) {
+            switch (pointsModeOf(provider)) {
                 case SIMPLE:
                 case OBJECT:
                 case ARRAY:
-                case GEOHASH:
                     serializeAsList(value, jgen);
                     break;
+                case GEOHASH:
+                    serializeAsGeohash(value, jgen);
+                    break;
                 case POLYLINE:
                     serializeAsPolyline(value, jgen);
                     break;
@@ -52,16 +68,36 @@ public class MaplinkPointsJacksonCodec extends MlpJacksonCodec<MaplinkPoints> {
             jgen.writeEndArray();
         }
 
+        private void serializeAsGeohash(
+                MaplinkPoints value,
+                JsonGenerator jgen
+        ) throws IOException {
+            char[] geohash = new char[DEFAULT_GEOHASH_SIZE];
+            jgen.writeStartArray();
+            for (int i = 0; i < value.size(); i++) {
+                GeohashCodec.encode(value.getLatitude(i), value.getLongitude(i), DEFAULT_GEOHASH_SIZE, geohash, 0);
+                jgen.writeString(geohash, 0, geohash.length);
+            }
+            jgen.writeEndArray();
+        }
+
         private void serializeAsPolyline(
                 MaplinkPoints value,
                 JsonGenerator jgen
         ) throws IOException {
-            jgen.writeString(value.toPolyline());
+            jgen.writeString(value.toPolyline(precision));
         }
     }
 
+    @RequiredArgsConstructor
     public static class Deserializer extends JsonDeserializer<MaplinkPoints> {
 
+        private final PolylinePrecision precision;
+
+        public Deserializer() {
+            this(PolylinePrecision.loadDefault());
+        }
+
         @Override
         public MaplinkPoints deserialize(
                 JsonParser parser,
@@ -78,7 +114,13 @@ public class MaplinkPointsJacksonCodec extends MlpJacksonCodec<MaplinkPoints> {
         }
 
         private MaplinkPoints deserializePolyline(JsonParser parser) throws IOException {
-            return MaplinkPoints.fromPolyline(parser.readValueAs(String.class));
+            // Decodes straight from the parser buffer, the polyline is never materialized as a String
+            return MaplinkPoints.fromPolyline(
+                    parser.getTextCharacters(),
+                    parser.getTextOffset(),
+                    parser.getTextLength(),
+                    precision
+            );
         }
 
         private MaplinkPoints deserializeArray(JsonParser parser) throws IOException {
@@ -2,6 +2,8 @@ package global.maplink.json.codecs;
 
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import global.maplink.domain.PointsMode;
 import global.maplink.json.MaplinkSdkModule;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -17,4 +19,10 @@ public abstract class MlpJacksonCodec<T> {
         module.addSerializer(type, serializer);
         module.addDeserializer(type, deserializer);
     }
+
+    // Mode resolved once by the writer of the current serialization, falling back for mappers not setting it
+    static PointsMode pointsModeOf(SerializerProvider provider) {
+        Object mode = provider.getAttribute(PointsMode.class);
+        return mode instanceof PointsMode ? (PointsMode) mode : PointsMode.current();
+    }
 }
@@ -0,0 +1,118 @@
+package global.maplink.json.codecs;
+
+import lombok.NoArgsConstructor;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.round;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+class SimplePointFormat {
+
+    static final int DECIMALS = 7;
+
+    private static final long SCALE = 10_000_000L;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    // Scaled by 1e7 values must stay below 2^53 (about 9e15) to be exact longs, 1e8 keeps a safe margin.
+    // Larger coordinates go through String.format
+    private static final double MAX_FAST_VALUE = 1e8;
+
+    private static final int MAX_FAST_DIGITS = 15;
+
+    // sign, 9 integer digits (rounding may carry up to 1e8), dot and decimals for each coordinate plus the separator
+    private static final int MAX_FAST_LENGTH = 2 * (1 + 9 + 1 + DECIMALS) + 1;
+
+    static boolean isFast(double value) {
+        return !Double.isNaN(value) && abs(value) < MAX_FAST_VALUE;
+    }
+
+    static char[] newBuffer() {
+        return new char[MAX_FAST_LENGTH];
+    }
+
+    // Both coordinates must be accepted by isFast
+    static int write(double latitude, double longitude, char[] out) {
+        int pos = writeCoordinate(latitude, out, 0);
+        out[pos++] = ',';
+        return writeCoordinate(longitude, out, pos);
+    }
+
+    private static int writeCoordinate(double value, char[] out, int pos) {
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out[pos++] = '-';
+        }
+        long scaled = round(abs(value) * SCALE);
+        pos = writeDigits(scaled / SCALE, out, pos);
+        out[pos++] = '.';
+        long fraction = scaled % SCALE;
+        for (int i = DECIMALS - 1; i >= 0; i--) {
+            out[pos + i] = (char) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        return pos + DECIMALS;
+    }
+
+    private static int writeDigits(long value, char[] out, int pos) {
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    static int indexOfSeparator(char[] text, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (text[i] == ',') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Plain decimals with up to 15 digits are exact as long / power of ten, anything else uses Double.parseDouble
+    static double parseCoordinate(char[] text, int from, int to) {
+        int pos = from;
+        while (pos < to && text[pos] == ' ') {
+            pos++;
+        }
+        while (to > pos && text[to - 1] == ' ') {
+            to--;
+        }
+        int start = pos;
+        boolean negative = false;
+        if (pos < to && (text[pos] == '-' || text[pos] == '+')) {
+            negative = text[pos] == '-';
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (; pos < to; pos++) {
+            char c = text[pos];
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if (c == '.' && decimals < 0) {
+                decimals = 0;
+            } else {
+                return Double.parseDouble(new String(text, start, to - start));
+            }
+        }
+        if (digits == 0 || digits > MAX_FAST_DIGITS) {
+            return Double.parseDouble(new String(text, start, to - start));
+        }
+        double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+        return negative ? -value : value;
+    }
+}
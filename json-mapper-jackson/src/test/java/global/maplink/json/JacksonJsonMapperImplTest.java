@@ -2,6 +2,11 @@ package global.maplink.json;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class JacksonJsonMapperImplTest {
@@ -11,4 +16,21 @@ public class JacksonJsonMapperImplTest {
         JsonMapper mapper = JsonMapper.loadDefault();
         assertThat(mapper).isNotNull().isInstanceOf(JacksonJsonMapperImpl.class);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void mustParseFromInputStream() {
+        JsonMapper mapper = new JacksonJsonMapperImpl();
+        Map<String, Object> object = mapper.fromJson(
+                new ByteArrayInputStream("{\"name\":\"test\"}".getBytes(UTF_8)),
+                Map.class
+        );
+        List<Integer> list = mapper.fromJsonList(
+                new ByteArrayInputStream("[1,2,3]".getBytes(UTF_8)),
+                Integer.class
+        );
+
+        assertThat(object).containsEntry("name", "test");
+        assertThat(list).containsExactly(1, 2, 3);
+    }
 }
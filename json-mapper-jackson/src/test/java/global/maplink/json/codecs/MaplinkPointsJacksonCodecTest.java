@@ -5,12 +5,14 @@ import global.maplink.credentials.MapLinkCredentials;
 import global.maplink.domain.MaplinkPoint;
 import global.maplink.domain.MaplinkPoints;
 import global.maplink.domain.PointsMode;
+import global.maplink.domain.PolylinePrecision;
 import global.maplink.http.HttpAsyncEngine;
 import global.maplink.json.JacksonJsonMapperImpl;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static global.maplink.domain.PointsMode.*;
 import static java.lang.String.format;
@@ -82,14 +84,52 @@ class MaplinkPointsJacksonCodecTest {
         assertThat(reversePoints).isEqualTo(SAMPLE_POINTS);
     }
 
+    @Test
+    void shouldSerializeAsPolylineWithConfiguredPrecision() {
+        JacksonJsonMapperImpl polyline6Mapper = new JacksonJsonMapperImpl(PolylinePrecision.E6);
+        String json = PointsMode.runWith(POLYLINE, () -> polyline6Mapper.toJsonString(SAMPLE_POINTS));
+
+        assertThatJson(json).isString().isEqualTo(SAMPLE_POINTS.toPolyline(PolylinePrecision.E6));
+
+        MaplinkPoints reversePoints = polyline6Mapper.fromJson(json.getBytes(StandardCharsets.UTF_8), MaplinkPoints.class);
+        assertThat(reversePoints).isEqualTo(SAMPLE_POINTS);
+    }
+
+    @Test
+    void shouldDeserializePolylineWithEscapedCharacters() {
+        String polyline = "pyynCfaw{G\\?";
+        MaplinkPoints points = MaplinkPoints.fromPolyline(polyline);
+
+        String json = "\"" + polyline.replace("\\", "\\\\") + "\"";
+        MaplinkPoints reversePoints = mapper.fromJson(json.getBytes(StandardCharsets.UTF_8), MaplinkPoints.class);
+        assertThat(reversePoints).isEqualTo(points);
+    }
+
     @Test
     void shouldSerializeAsSimple() {
         String json = PointsMode.runWith(SIMPLE, () -> mapper.toJsonString(SAMPLE_POINTS));
 
         assertThatJson(json,
                 j -> j.isArray().hasSize(6),
-                j -> j.isArray().first().isEqualTo("{\"point\":\"-23.5664900,-46.653800\"}"),
-                j -> j.isArray().last().isEqualTo("{\"point\":\"-23.5616200,-46.656150\"}")
+                j -> j.isArray().first().isEqualTo("{\"point\":\"-23.5664900,-46.6538000\"}"),
+                j -> j.isArray().last().isEqualTo("{\"point\":\"-23.5616200,-46.6561500\"}")
+        );
+
+        MaplinkPoints reversePoints = mapper.fromJson(json.getBytes(StandardCharsets.UTF_8), MaplinkPoints.class);
+        assertThat(reversePoints).isEqualTo(SAMPLE_POINTS);
+    }
+
+    @Test
+    void shouldDeserializeObjectsIgnoringUnknownFields() {
+        String json = format("[%s,%s]",
+                "{\"extra\":{\"nested\":[1,2]},\"longitude\":-46.6538,\"latitude\":\"-23.56649\"}",
+                "{\"point\":\" -23.56649 , -46.6538\",\"extra\":true}"
+        );
+
+        MaplinkPoints points = mapper.fromJson(json.getBytes(StandardCharsets.UTF_8), MaplinkPoints.class);
+        assertThat(points).containsExactly(
+                new MaplinkPoint(-23.56649, -46.6538),
+                new MaplinkPoint(-23.56649, -46.6538)
         );
     }
 
@@ -105,6 +145,23 @@ class MaplinkPointsJacksonCodecTest {
         assertThat(points).hasSize(3);
     }
 
+    @Test
+    void shouldResolveModeOncePerSerialization() {
+        AtomicInteger resolutions = new AtomicInteger();
+        try {
+            PointsMode.setExternalSupplier(() -> {
+                resolutions.incrementAndGet();
+                return ARRAY;
+            });
+            String json = mapper.toJsonString(SAMPLE_POINTS);
+
+            assertThatJson(json).isArray().first().isEqualTo("[-23.56649,-46.6538]");
+            assertThat(resolutions).hasValue(1);
+        } finally {
+            PointsMode.setExternalSupplier(() -> null);
+        }
+    }
+
     @Test
     void shouldRespectExternalSupplier() {
         try {
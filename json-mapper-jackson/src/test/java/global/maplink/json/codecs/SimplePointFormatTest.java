@@ -0,0 +1,62 @@
+package global.maplink.json.codecs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+import static java.util.Locale.ENGLISH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimplePointFormatTest {
+
+    @Test
+    void shouldWriteSameOutputAsStringFormat() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            double latitude = (random.nextDouble() - 0.5) * 180;
+            double longitude = (random.nextDouble() - 0.5) * 360;
+
+            assertThat(write(latitude, longitude)).isEqualTo(format(ENGLISH, "%.7f,%.7f", latitude, longitude));
+        }
+    }
+
+    @Test
+    void shouldWriteEdgeValues() {
+        assertThat(write(0, -0.0)).isEqualTo("0.0000000,-0.0000000");
+        assertThat(write(-0.00000001, 89.99999995)).isEqualTo("-0.0000000,90.0000000");
+        assertThat(write(-23.56649, -46.6538)).isEqualTo("-23.5664900,-46.6538000");
+    }
+
+    @Test
+    void shouldNotTakeFastPathForNonFiniteOrHugeValues() {
+        assertThat(SimplePointFormat.isFast(Double.NaN)).isFalse();
+        assertThat(SimplePointFormat.isFast(Double.POSITIVE_INFINITY)).isFalse();
+        assertThat(SimplePointFormat.isFast(1e12)).isFalse();
+        assertThat(SimplePointFormat.isFast(1e9)).isFalse();
+        assertThat(SimplePointFormat.isFast(-179.9)).isTrue();
+        assertThat(write(99_999_999.1234567, -1.0)).isEqualTo("99999999.1234567,-1.0000000");
+    }
+
+    @Test
+    void shouldParseSameValueAsParseDouble() {
+        String[] samples = {"-23.5664900", "-46.6538", "0", "-0.0", "179.1234568", " 12.5 ", "1e2", "+3.25", "-23.12345678901234567"};
+        for (String sample : samples) {
+            char[] text = sample.toCharArray();
+            assertThat(SimplePointFormat.parseCoordinate(text, 0, text.length)).isEqualTo(Double.parseDouble(sample));
+        }
+    }
+
+    @Test
+    void shouldFindSeparatorInsideSlice() {
+        char[] text = "x,-23.5,-46.6".toCharArray();
+
+        assertThat(SimplePointFormat.indexOfSeparator(text, 2, 11)).isEqualTo(7);
+        assertThat(SimplePointFormat.indexOfSeparator(text, 8, 5)).isEqualTo(-1);
+    }
+
+    private String write(double latitude, double longitude) {
+        char[] buffer = SimplePointFormat.newBuffer();
+        return new String(buffer, 0, SimplePointFormat.write(latitude, longitude, buffer));
+    }
+}
@@ -0,0 +1,107 @@
+package global.maplink.metrics.micrometer;
+
+import global.maplink.extensions.SdkMetricsExtension;
+import global.maplink.metrics.RequestPhase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+public class MicrometerMetricsExtension implements SdkMetricsExtension {
+
+    public static final String REQUEST_TIMER = "maplink.sdk.requests";
+
+    public static final String PHASE_TIMER = "maplink.sdk.requests.phase";
+
+    public static final String RESPONSE_COUNTER = "maplink.sdk.responses";
+
+    public static final String IN_FLIGHT_GAUGE = "maplink.sdk.requests.in.flight";
+
+    public static final String CHUNK_SIZE_GAUGE = "maplink.sdk.requests.chunk.size";
+
+    public static final String TAG_SERVICE = "service";
+
+    public static final String TAG_PHASE = "phase";
+
+    public static final String TAG_OUTCOME = "outcome";
+
+    public static final String TAG_EXCEPTION = "exception";
+
+    public static final String TAG_STATUS = "status";
+
+    private static final String EXTENSION_NAME = "Micrometer Metrics Extension";
+
+    private static final String SUCCESS = "success";
+
+    private static final String FAILURE = "failure";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> chunkSizes = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsExtension(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRequestStarted(String service) {
+        inFlightOf(service).incrementAndGet();
+    }
+
+    @Override
+    public void onPhase(String service, RequestPhase phase, long durationNanos, boolean success) {
+        Timer.builder(PHASE_TIMER)
+                .description("Time spent by MapLink SDK requests on each phase")
+                .tags(Tags.of(TAG_SERVICE, service, TAG_PHASE, phase.name(), TAG_OUTCOME, success ? SUCCESS : FAILURE))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onResponse(String service, int statusCode) {
+        registry.counter(RESPONSE_COUNTER, TAG_SERVICE, service, TAG_STATUS, Integer.toString(statusCode))
+                .increment();
+    }
+
+    @Override
+    public void onRequestFinished(String service, long durationNanos, Throwable error) {
+        inFlightOf(service).decrementAndGet();
+        Timer.builder(REQUEST_TIMER)
+                .description("Total time of MapLink SDK requests")
+                .tags(Tags.of(
+                        TAG_SERVICE, service,
+                        TAG_OUTCOME, isNull(error) ? SUCCESS : FAILURE,
+                        TAG_EXCEPTION, isNull(error) ? NONE : error.getClass().getSimpleName()
+                ))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onChunkSize(String service, int chunkSize) {
+        chunkSizes.computeIfAbsent(service, s ->
+                registry.gauge(CHUNK_SIZE_GAUGE, Tags.of(TAG_SERVICE, s), new AtomicInteger())
+        ).set(chunkSize);
+    }
+
+    private AtomicInteger inFlightOf(String service) {
+        return inFlight.computeIfAbsent(service, s ->
+                registry.gauge(IN_FLIGHT_GAUGE, Tags.of(TAG_SERVICE, s), new AtomicInteger())
+        );
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+}
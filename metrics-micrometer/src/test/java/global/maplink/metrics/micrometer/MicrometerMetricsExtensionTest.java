@@ -0,0 +1,69 @@
+package global.maplink.metrics.micrometer;
+
+import global.maplink.metrics.RequestPhase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static global.maplink.metrics.micrometer.MicrometerMetricsExtension.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMetricsExtensionTest {
+
+    private static final String SERVICE = "toll/v1/calculations";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MicrometerMetricsExtension extension = new MicrometerMetricsExtension(registry);
+
+    @Test
+    void shouldTrackInFlightRequests() {
+        extension.onRequestStarted(SERVICE);
+        extension.onRequestStarted(SERVICE);
+
+        assertThat(registry.get(IN_FLIGHT_GAUGE).tag(TAG_SERVICE, SERVICE).gauge().value()).isEqualTo(2);
+
+        extension.onRequestFinished(SERVICE, 1_000, null);
+
+        assertThat(registry.get(IN_FLIGHT_GAUGE).tag(TAG_SERVICE, SERVICE).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordPhaseTimers() {
+        extension.onPhase(SERVICE, RequestPhase.HTTP, TimeUnit.MILLISECONDS.toNanos(120), true);
+        extension.onPhase(SERVICE, RequestPhase.HTTP, TimeUnit.MILLISECONDS.toNanos(80), true);
+        extension.onPhase(SERVICE, RequestPhase.PARSING, TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        assertThat(registry.get(PHASE_TIMER).tags(TAG_PHASE, "HTTP", TAG_OUTCOME, "success").timer().count()).isEqualTo(2);
+        assertThat(registry.get(PHASE_TIMER).tags(TAG_PHASE, "HTTP").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(200);
+        assertThat(registry.get(PHASE_TIMER).tags(TAG_PHASE, "PARSING", TAG_OUTCOME, "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountResponsesByStatus() {
+        extension.onResponse(SERVICE, 200);
+        extension.onResponse(SERVICE, 200);
+        extension.onResponse(SERVICE, 503);
+
+        assertThat(registry.get(RESPONSE_COUNTER).tags(TAG_SERVICE, SERVICE, TAG_STATUS, "200").counter().count()).isEqualTo(2);
+        assertThat(registry.get(RESPONSE_COUNTER).tags(TAG_STATUS, "503").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagFailedRequestsWithException() {
+        extension.onRequestStarted(SERVICE);
+        extension.onRequestFinished(SERVICE, 1_000, new IOException("connection reset"));
+
+        assertThat(registry.get(REQUEST_TIMER).tags(TAG_OUTCOME, "failure", TAG_EXCEPTION, "IOException").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTrackLastChunkSize() {
+        extension.onChunkSize(SERVICE, 500);
+        extension.onChunkSize(SERVICE, 250);
+
+        assertThat(registry.get(CHUNK_SIZE_GAUGE).tag(TAG_SERVICE, SERVICE).gauge().value()).isEqualTo(250);
+    }
+}
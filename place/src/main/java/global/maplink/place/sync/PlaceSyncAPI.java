@@ -1,5 +1,6 @@
 package global.maplink.place.sync;
 
+import global.maplink.MapLinkSDK;
 import global.maplink.env.Environment;
 import global.maplink.place.async.PlaceAsyncAPI;
 import global.maplink.place.schema.*;
@@ -8,6 +9,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import static global.maplink.MapLinkServiceRequestAsyncRunner.blockingProxyFor;
+
 public interface PlaceSyncAPI {
 
     PlaceRouteResponse calculate(PlaceRouteRequest request);
@@ -33,10 +36,15 @@ public interface PlaceSyncAPI {
     Optional<Place> getByOriginId(String originId);
 
     static PlaceSyncAPI getInstance() {
-        return new PlaceSyncApiImpl(PlaceAsyncAPI.getInstance());
+        return getInstance(null);
     }
 
     static PlaceSyncAPI getInstance(Environment environment) {
-        return new PlaceSyncApiImpl(PlaceAsyncAPI.getInstance(environment));
+        MapLinkSDK sdk = MapLinkSDK.getInstance();
+        return new PlaceSyncApiImpl(blockingProxyFor(
+                PlaceAsyncAPI.class,
+                Optional.ofNullable(environment).orElse(sdk.getEnvironment()),
+                sdk
+        ));
     }
 }
@@ -1,5 +1,6 @@
 package global.maplink.toll.sync;
 
+import global.maplink.MapLinkSDK;
 import global.maplink.env.Environment;
 import global.maplink.toll.async.TollAsyncAPI;
 import global.maplink.toll.schema.Billing;
@@ -8,7 +9,9 @@ import global.maplink.toll.schema.request.TollCalculationRequest;
 import global.maplink.toll.schema.result.TollCalculationResult;
 
 import java.util.List;
+import java.util.Optional;
 
+import static global.maplink.MapLinkServiceRequestAsyncRunner.blockingProxyFor;
 import static java.util.Arrays.asList;
 
 public interface TollSyncAPI {
@@ -41,11 +44,16 @@ public interface TollSyncAPI {
     TollCalculationResult calculate(TollCalculationRequest request);
 
     static TollSyncAPI getInstance() {
-        return new TollSyncApiImpl(TollAsyncAPI.getInstance());
+        return getInstance(null);
     }
 
     static TollSyncAPI getInstance(Environment environment) {
-        return new TollSyncApiImpl(TollAsyncAPI.getInstance(environment));
+        MapLinkSDK sdk = MapLinkSDK.getInstance();
+        return new TollSyncApiImpl(blockingProxyFor(
+                TollAsyncAPI.class,
+                Optional.ofNullable(environment).orElse(sdk.getEnvironment()),
+                sdk
+        ));
     }
 
 }
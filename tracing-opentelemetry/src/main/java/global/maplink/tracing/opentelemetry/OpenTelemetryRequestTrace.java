@@ -0,0 +1,45 @@
+package global.maplink.tracing.opentelemetry;
+
+import global.maplink.metrics.RequestPhase;
+import global.maplink.tracing.RequestTrace;
+import global.maplink.tracing.TraceScope;
+import global.maplink.tracing.TraceSpan;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import java.util.Set;
+
+class OpenTelemetryRequestTrace extends OpenTelemetrySpan implements RequestTrace {
+
+    private final Tracer tracer;
+
+    private final Context context;
+
+    private final Set<RequestPhase> tracedPhases;
+
+    OpenTelemetryRequestTrace(Tracer tracer, Span span, Set<RequestPhase> tracedPhases) {
+        super(span);
+        this.tracer = tracer;
+        this.context = Context.current().with(span);
+        this.tracedPhases = tracedPhases;
+    }
+
+    @Override
+    public TraceSpan startPhase(RequestPhase phase) {
+        if (!tracedPhases.contains(phase)) {
+            return TraceSpan.NOOP;
+        }
+        Span child = tracer.spanBuilder(OpenTelemetryTracingExtension.SPAN_PREFIX + phase.name().toLowerCase())
+                .setParent(context)
+                .startSpan();
+        return new OpenTelemetrySpan(child);
+    }
+
+    @Override
+    public TraceScope makeCurrent() {
+        Scope scope = context.makeCurrent();
+        return scope::close;
+    }
+}
@@ -0,0 +1,36 @@
+package global.maplink.tracing.opentelemetry;
+
+import global.maplink.tracing.TraceSpan;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+
+import static java.util.Objects.nonNull;
+
+class OpenTelemetrySpan implements TraceSpan {
+
+    static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+
+    protected final Span span;
+
+    OpenTelemetrySpan(Span span) {
+        this.span = span;
+    }
+
+    @Override
+    public void onResponse(int statusCode) {
+        span.setAttribute(HTTP_STATUS_CODE, (long) statusCode);
+        if (statusCode >= 400) {
+            span.setStatus(StatusCode.ERROR);
+        }
+    }
+
+    @Override
+    public void end(Throwable error) {
+        if (nonNull(error)) {
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR, error.getClass().getSimpleName());
+        }
+        span.end();
+    }
+}
@@ -0,0 +1,88 @@
+package global.maplink.tracing.opentelemetry;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.extensions.SdkRequestFilterExtension;
+import global.maplink.extensions.SdkTracingExtension;
+import global.maplink.http.request.Request;
+import global.maplink.metrics.RequestPhase;
+import global.maplink.tracing.RequestTrace;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static global.maplink.metrics.RequestPhase.*;
+
+public class OpenTelemetryTracingExtension implements SdkTracingExtension, SdkRequestFilterExtension {
+
+    public static final String INSTRUMENTATION_NAME = "global.maplink.sdk";
+
+    public static final String SPAN_PREFIX = "maplink.";
+
+    public static final AttributeKey<String> SERVICE = AttributeKey.stringKey("maplink.service");
+
+    public static final AttributeKey<String> SERVER_ADDRESS = AttributeKey.stringKey("server.address");
+
+    public static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+
+    private static final Set<RequestPhase> DEFAULT_PHASES = Collections.unmodifiableSet(EnumSet.of(TOKEN, HTTP, PARSING));
+
+    private static final TextMapSetter<Request> HEADER_SETTER = (request, key, value) -> {
+        if (request != null) {
+            request.withHeader(key, value);
+        }
+    };
+
+    private static final String EXTENSION_NAME = "OpenTelemetry Tracing Extension";
+
+    private final Tracer tracer;
+
+    private final TextMapPropagator propagator;
+
+    private final Set<RequestPhase> tracedPhases;
+
+    public OpenTelemetryTracingExtension(OpenTelemetry openTelemetry) {
+        this(openTelemetry, DEFAULT_PHASES);
+    }
+
+    public OpenTelemetryTracingExtension(OpenTelemetry openTelemetry, Set<RequestPhase> tracedPhases) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+        this.tracedPhases = tracedPhases.isEmpty() ? EnumSet.noneOf(RequestPhase.class) : EnumSet.copyOf(tracedPhases);
+    }
+
+    @Override
+    public RequestTrace startTrace(String service, MapLinkServiceRequest<?> request) {
+        Span span = tracer.spanBuilder(SPAN_PREFIX + service)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(SERVICE, service)
+                .startSpan();
+        return new OpenTelemetryRequestTrace(tracer, span, tracedPhases);
+    }
+
+    @Override
+    public <T> Request filter(MapLinkServiceRequest<T> serviceRequest, Request request) {
+        Span current = Span.current();
+        if (current.getSpanContext().isValid()) {
+            URI uri = request.getFullURI();
+            current.setAttribute(SERVER_ADDRESS, uri.getHost());
+            current.setAttribute(URL_PATH, uri.getPath());
+        }
+        propagator.inject(Context.current(), request, HEADER_SETTER);
+        return request;
+    }
+
+    @Override
+    public String getName() {
+        return EXTENSION_NAME;
+    }
+}
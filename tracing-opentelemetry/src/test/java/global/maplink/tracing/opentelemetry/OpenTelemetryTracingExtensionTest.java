@@ -0,0 +1,143 @@
+package global.maplink.tracing.opentelemetry;
+
+import global.maplink.MapLinkServiceRequest;
+import global.maplink.MapLinkServiceRequestAsyncRunner;
+import global.maplink.credentials.MapLinkCredentials;
+import global.maplink.env.Environment;
+import global.maplink.extensions.SdkExtension;
+import global.maplink.http.HttpAsyncEngine;
+import global.maplink.http.Response;
+import global.maplink.http.request.Request;
+import global.maplink.json.JsonMapper;
+import global.maplink.token.OAuthMapLinkTokenImpl;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenTelemetryTracingExtensionTest {
+
+    private static final String SERVICE = "sample/v1/values";
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    private final OpenTelemetry openTelemetry = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                    .build())
+            .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+            .build();
+
+    private final Map<String, String> sentHeaders = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldOpenSpanPerCallWithChildSpansForEachPhase() {
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(request -> {
+            sentHeaders.putAll(request.getHeaders());
+            return completedFuture(new Response(200, "text/plain", new byte[0]));
+        });
+
+        assertThat(runner.run(new SampleRequest()).join()).isEqualTo("value");
+
+        Map<String, SpanData> spans = spansByName();
+        assertThat(spans).containsOnlyKeys("maplink." + SERVICE, "maplink.token", "maplink.http", "maplink.parsing");
+        SpanData root = spans.get("maplink." + SERVICE);
+        assertThat(root.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(root.getAttributes().get(OpenTelemetryTracingExtension.SERVICE)).isEqualTo(SERVICE);
+        assertThat(root.getAttributes().get(OpenTelemetrySpan.HTTP_STATUS_CODE)).isEqualTo(200L);
+        assertThat(spans.get("maplink.http").getAttributes().get(OpenTelemetrySpan.HTTP_STATUS_CODE)).isEqualTo(200L);
+        spans.values().stream()
+                .filter(span -> span != root)
+                .forEach(span -> assertThat(span.getParentSpanId()).isEqualTo(root.getSpanId()));
+        assertThat(sentHeaders.get("traceparent"))
+                .isEqualTo("00-" + root.getTraceId() + "-" + root.getSpanId() + "-01");
+    }
+
+    @Test
+    void shouldContinueCallerTrace() {
+        Span parent = openTelemetry.getTracer("test").spanBuilder("caller").startSpan();
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(request -> completedFuture(new Response(200, "text/plain", new byte[0])));
+
+        try (Scope ignored = parent.makeCurrent()) {
+            runner.run(new SampleRequest()).join();
+        } finally {
+            parent.end();
+        }
+
+        SpanData root = spansByName().get("maplink." + SERVICE);
+        assertThat(root.getTraceId()).isEqualTo(parent.getSpanContext().getTraceId());
+        assertThat(root.getParentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+    }
+
+    @Test
+    void shouldRecordFailuresOnSpans() {
+        MapLinkServiceRequestAsyncRunner runner = runnerWith(request -> {
+            CompletableFuture<Response> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IOException("connection reset"));
+            return failed;
+        });
+
+        assertThatThrownBy(() -> runner.run(new SampleRequest()).join())
+                .hasCauseInstanceOf(IOException.class);
+
+        Map<String, SpanData> spans = spansByName();
+        assertThat(spans).doesNotContainKey("maplink.parsing");
+        assertThat(spans.get("maplink.http").getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(spans.get("maplink." + SERVICE).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(spans.get("maplink." + SERVICE).getEvents()).extracting("name").contains("exception");
+    }
+
+    private Map<String, SpanData> spansByName() {
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        return spans.stream().collect(toMap(SpanData::getName, Function.identity()));
+    }
+
+    private MapLinkServiceRequestAsyncRunner runnerWith(HttpAsyncEngine http) {
+        return MapLinkServiceRequestAsyncRunner.createRunner(
+                Environment.loadDefault(),
+                http,
+                null,
+                (clientId, secret) -> completedFuture(new OAuthMapLinkTokenImpl("", Instant.MAX)),
+                MapLinkCredentials.ofKey("test", "test"),
+                Collections.<SdkExtension>singletonList(new OpenTelemetryTracingExtension(openTelemetry))
+        );
+    }
+
+    public static class SampleRequest implements MapLinkServiceRequest<String> {
+        public static final String PATH = SERVICE;
+
+        @Override
+        public Request asHttpRequest(Environment environment, JsonMapper mapper) {
+            return Request.get(environment.withService(PATH));
+        }
+
+        @Override
+        public Function<Response, String> getResponseParser(JsonMapper mapper) {
+            return response -> "value";
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package global.maplink.trip.sync;
 
+import global.maplink.MapLinkSDK;
 import global.maplink.env.Environment;
 import global.maplink.trip.async.TripAsyncAPI;
 import global.maplink.trip.schema.v2.problem.TripCalculateRequest;
 import global.maplink.trip.schema.v2.solution.TripSolution;
 
+import java.util.Optional;
+
+import static global.maplink.MapLinkServiceRequestAsyncRunner.blockingProxyFor;
+
 public interface TripSyncAPI {
 
     TripSolution calculate(TripCalculateRequest request);
 
     static TripSyncAPI getInstance() {
-        return new TripSyncApiImpl(TripAsyncAPI.getInstance());
+        return getInstance(null);
     }
 
     static TripSyncAPI getInstance(Environment environment) {
-        return new TripSyncApiImpl(TripAsyncAPI.getInstance(environment));
+        MapLinkSDK sdk = MapLinkSDK.getInstance();
+        return new TripSyncApiImpl(blockingProxyFor(
+                TripAsyncAPI.class,
+                Optional.ofNullable(environment).orElse(sdk.getEnvironment()),
+                sdk
+        ));
     }
 }